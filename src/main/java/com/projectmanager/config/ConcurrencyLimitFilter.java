@@ -0,0 +1,85 @@
+package com.projectmanager.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the number of requests processed at once. With virtual threads Tomcat no longer caps concurrency through
+ * its worker pool, so without this every request past the connection pool size would queue inside Hikari until it
+ * times out. The limit ({@code app.concurrency-limit.max-concurrent-requests}) is set next to the pool size and
+ * sized against it; requests that cannot get a permit in time are rejected with 503 before they touch the database.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+@ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeout;
+    private final Counter rejectedCounter;
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                  @Value("${app.concurrency-limit.max-concurrent-requests:40}") int limit,
+                                  @Value("${app.concurrency-limit.acquire-timeout:2000}") long acquireTimeout) {
+        this.permits = new Semaphore(limit, true);
+        this.acquireTimeout = acquireTimeout;
+        this.rejectedCounter = Counter.builder("http.server.requests.rejected").register(meterRegistry);
+        Gauge.builder("http.server.requests.in-flight", permits, p -> limit - p.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!acquire()) {
+            rejectedCounter.increment();
+            // Written directly: sendError would forward to /error, which the security chain answers with 403
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write("Server is busy, please retry");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        // Health checks must keep answering while the application is saturated
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(acquireTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.projectmanager.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records how long each pooled connection is held, from checkout until it is handed back, tagged with the
+ * endpoint that borrowed it. Connections taken outside a request (scheduled jobs, startup) are tagged "none".
+ */
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+    private static final String METRIC_NAME = "jdbc.connections.held";
+
+    private final MeterRegistry meterRegistry;
+
+    public ConnectionHoldTimeDataSource(DataSource targetDataSource, MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        HoldTimeHandler handler = new HoldTimeHandler(connection, Timer.start(meterRegistry));
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    private Timer timerForCurrentRequest() {
+        String method = "none";
+        String uri = "none";
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            method = request.getMethod();
+            // Only the mapped pattern is used so the tag cardinality stays bounded by the number of endpoints
+            uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        }
+        return Timer.builder(METRIC_NAME)
+                .description("Time a JDBC connection is held before being returned to the pool")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+
+    private class HoldTimeHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final Timer.Sample sample;
+        private final Timer timer;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        HoldTimeHandler(Connection target, Timer.Sample sample) {
+            this.target = target;
+            this.sample = sample;
+            this.timer = timerForCurrentRequest();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("close") && closed.compareAndSet(false, true)) {
+                sample.stop(timer);
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+    }
+
+}
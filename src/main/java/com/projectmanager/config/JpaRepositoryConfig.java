@@ -0,0 +1,10 @@
+package com.projectmanager.config;
+
+import com.projectmanager.repository.BaseRepositoryImpl;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@Configuration
+@EnableJpaRepositories(basePackages = "com.projectmanager.repository", repositoryBaseClass = BaseRepositoryImpl.class)
+public class JpaRepositoryConfig {
+}
@@ -0,0 +1,78 @@
+package com.projectmanager.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate second-level cache backed by an in-process Caffeine JCache provider. Every region is created here
+ * with its own size and TTL ({@code app.second-level-cache.regions.<region>.*}) and Hibernate is told to fail
+ * on unknown regions, so nothing ends up in an unbounded default cache.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.second-level-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    // Region name -> default maximum size
+    private static final Map<String, Long> REGIONS = Map.of(
+            "users", 10000L,
+            "projects", 5000L,
+            "steps", 20000L,
+            "project-users", 5000L
+    );
+
+    private static final long DEFAULT_EXPIRE_AFTER_WRITE = 600000;
+
+    // Each application context gets its own manager: the provider's default one is shared by the whole JVM, so a
+    // second context (a test with different beans, for one) would fail to create its regions or share entries
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(Environment environment, MeterRegistry meterRegistry) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        URI uri = URI.create(provider.getDefaultURI() + "#" + UUID.randomUUID());
+        CacheManager cacheManager = provider.getCacheManager(uri, getClass().getClassLoader());
+
+        REGIONS.forEach((region, defaultMaximumSize) -> {
+            String prefix = "app.second-level-cache.regions." + region;
+            long maximumSize = environment.getProperty(prefix + ".maximum-size", Long.class, defaultMaximumSize);
+            long expireAfterWrite = environment.getProperty(prefix + ".expire-after-write", Long.class, DEFAULT_EXPIRE_AFTER_WRITE);
+
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(expireAfterWrite)));
+            configuration.setStatisticsEnabled(true);
+
+            Cache<Object, Object> cache = cacheManager.createCache(region, configuration);
+            JCacheMetrics.monitor(meterRegistry, cache);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+}
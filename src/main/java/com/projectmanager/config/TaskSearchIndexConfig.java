@@ -0,0 +1,37 @@
+package com.projectmanager.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Checks at startup that the task search structures exist. They are created by
+ * db/migrations/002_task_search.sql as a deploy step, since adding and indexing the column on a live
+ * table is not something every starting instance should attempt.
+ */
+@Configuration
+public class TaskSearchIndexConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchIndexConfig.class);
+
+    private static final String SEARCH_INDEX_EXISTS = "SELECT count(*) FROM pg_indexes " +
+            "WHERE schemaname = current_schema() AND tablename = 'tasks' AND indexname = 'idx_tasks_search_vector'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskSearchIndexConfig(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkSearchIndexes() {
+        Long indexes = jdbcTemplate.queryForObject(SEARCH_INDEX_EXISTS, Long.class);
+        if (indexes == null || indexes == 0) {
+            logger.warn("Task search index is missing, /api/tasks search fails until db/migrations/002_task_search.sql is applied");
+        }
+    }
+
+}
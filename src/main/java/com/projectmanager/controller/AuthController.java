@@ -36,7 +36,7 @@ public class AuthController {
     }
 
     @PostMapping("/register")
-    public ResponseEntity<UserReadDto> register(@Valid @RequestBody UserCreateDto dto, HttpServletRequest request) throws Exception {
+    public ResponseEntity<UserReadDto> register(@Valid @RequestBody UserCreateDto dto, HttpServletRequest request) {
         String baseUrl = request.getScheme() + "://" + request.getServerName() + ":" + request.getServerPort();
         UserReadDto createdUser = userService.createUser(dto, baseUrl);
         logger.info("User registered with email: {}", dto.getEmail());
@@ -72,7 +72,7 @@ public class AuthController {
     }
 
     @PostMapping("/password-reset-request")
-    public ResponseEntity<Void> requestPasswordReset(@Valid @RequestBody PasswordResetRequestDto dto, HttpServletRequest request) throws Exception {
+    public ResponseEntity<Void> requestPasswordReset(@Valid @RequestBody PasswordResetRequestDto dto, HttpServletRequest request) {
         String baseUrl = request.getScheme() + "://" + request.getServerName() + ":" + request.getServerPort();
         authService.requestPasswordReset(dto, baseUrl);
         logger.info("Password reset requested for email: {}", dto.getEmail());
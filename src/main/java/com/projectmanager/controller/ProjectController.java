@@ -1,14 +1,21 @@
 package com.projectmanager.controller;
 
+import com.projectmanager.dto.page.CursorPageDto;
+import com.projectmanager.dto.page.PageMode;
+import com.projectmanager.dto.project.ProjectBoardDto;
 import com.projectmanager.dto.project.ProjectCreateDto;
+import com.projectmanager.dto.project.ProjectMemberDto;
 import com.projectmanager.dto.project.ProjectReadDto;
+import com.projectmanager.dto.project.ProjectStatsDto;
 import com.projectmanager.dto.project.ProjectUpdateDto;
+import com.projectmanager.service.ProjectBoardService;
 import com.projectmanager.service.ProjectService;
+import com.projectmanager.service.TaskStatsService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -22,6 +29,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -32,9 +40,13 @@ public class ProjectController {
     private static final Logger logger = LoggerFactory.getLogger(ProjectController.class);
 
     private final ProjectService projectService;
+    private final ProjectBoardService projectBoardService;
+    private final TaskStatsService taskStatsService;
 
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService, ProjectBoardService projectBoardService, TaskStatsService taskStatsService) {
         this.projectService = projectService;
+        this.projectBoardService = projectBoardService;
+        this.taskStatsService = taskStatsService;
     }
 
     private UUID getCurrentUserId() {
@@ -71,28 +83,90 @@ public class ProjectController {
 
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ProjectReadDto> getProjectById(@PathVariable UUID id) {
+    public ResponseEntity<ProjectReadDto> getProjectById(@PathVariable UUID id, WebRequest webRequest) {
         UUID currentUserId = getCurrentUserId();
+        String etag = projectService.getProjectEtag(id, currentUserId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         ProjectReadDto project = projectService.getProjectById(id, currentUserId);
         logger.info("Project retrieved with ID: {}", id);
-        return ResponseEntity.ok(project);
+        return ResponseEntity.ok().eTag(etag).body(project);
+    }
+
+    @GetMapping("/{id}/board")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ProjectBoardDto> getProjectBoard(@PathVariable UUID id, WebRequest webRequest) {
+        UUID currentUserId = getCurrentUserId();
+        String etag = projectService.getProjectEtag(id, currentUserId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        ProjectBoardDto board = projectBoardService.getProjectBoard(id, currentUserId);
+        logger.info("Project board retrieved for project ID: {}", id);
+        return ResponseEntity.ok().eTag(etag).body(board);
+    }
+
+    @GetMapping("/{id}/members")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Slice<ProjectMemberDto>> getProjectMembers(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            WebRequest webRequest) {
+        UUID currentUserId = getCurrentUserId();
+        String etag = projectService.getProjectEtag(id, currentUserId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        Slice<ProjectMemberDto> members = projectService.getProjectMembers(id, PageRequest.of(page, size), currentUserId);
+        logger.info("Project members retrieved for project ID: {}", id);
+        return ResponseEntity.ok().eTag(etag).body(members);
+    }
+
+    @GetMapping("/{id}/stats")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ProjectStatsDto> getProjectStats(@PathVariable UUID id, WebRequest webRequest) {
+        UUID currentUserId = getCurrentUserId();
+        String etag = projectService.getProjectEtag(id, currentUserId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        ProjectStatsDto stats = taskStatsService.getProjectStats(id, currentUserId);
+        logger.info("Project stats retrieved for project ID: {}", id);
+        return ResponseEntity.ok().eTag(etag).body(stats);
     }
 
     @GetMapping
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Page<ProjectReadDto>> getAllProjects(
+    public ResponseEntity<Slice<ProjectReadDto>> getAllProjects(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "EXACT") PageMode mode,
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String description,
             @RequestParam(required = false) UUID userId) {
         UUID currentUserId = getCurrentUserId();
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<ProjectReadDto> projects = projectService.getAllProjects(pageRequest, name, description, userId, currentUserId);
+        Slice<ProjectReadDto> projects = projectService.getAllProjects(pageRequest, mode, name, description, userId, currentUserId);
         logger.info("All projects retrieved for user ID: {}", currentUserId);
         return ResponseEntity.ok(projects);
     }
 
+    @GetMapping("/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPageDto<ProjectReadDto>> getAllProjectsAfter(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) UUID userId) {
+        UUID currentUserId = getCurrentUserId();
+        CursorPageDto<ProjectReadDto> projects = projectService.getAllProjectsAfter(after, size, name, description, userId, currentUserId);
+        logger.info("Projects retrieved by cursor for user ID: {}", currentUserId);
+        return ResponseEntity.ok(projects);
+    }
+
     @PostMapping("/{projectId}/users/{userId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ProjectReadDto> addUserToProject(@PathVariable UUID projectId, @PathVariable UUID userId) {
@@ -1,14 +1,17 @@
 package com.projectmanager.controller;
 
+import com.projectmanager.dto.page.CursorPageDto;
+import com.projectmanager.dto.page.PageMode;
 import com.projectmanager.dto.step.StepCreateDto;
 import com.projectmanager.dto.step.StepReadDto;
 import com.projectmanager.dto.step.StepUpdateDto;
+import com.projectmanager.service.ProjectService;
 import com.projectmanager.service.StepService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,6 +25,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -32,9 +36,11 @@ public class StepController {
     private static final Logger logger = LoggerFactory.getLogger(StepController.class);
 
     private final StepService stepService;
+    private final ProjectService projectService;
 
-    public StepController(StepService stepService) {
+    public StepController(StepService stepService, ProjectService projectService) {
         this.stepService = stepService;
+        this.projectService = projectService;
     }
 
     private UUID getCurrentUserId() {
@@ -71,25 +77,53 @@ public class StepController {
 
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<StepReadDto> getStepById(@PathVariable UUID id) {
+    public ResponseEntity<StepReadDto> getStepById(@PathVariable UUID id, WebRequest webRequest) {
         UUID currentUserId = getCurrentUserId();
+        String etag = stepService.getStepEtag(id, currentUserId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         StepReadDto step = stepService.getStepById(id, currentUserId);
         logger.info("Step retrieved with ID: {}", id);
-        return ResponseEntity.ok(step);
+        return ResponseEntity.ok().eTag(etag).body(step);
     }
 
     @GetMapping("/project/{projectId}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Page<StepReadDto>> getStepsByProjectId(
+    public ResponseEntity<Slice<StepReadDto>> getStepsByProjectId(
             @PathVariable UUID projectId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) String name) {
+            @RequestParam(defaultValue = "EXACT") PageMode mode,
+            @RequestParam(required = false) String name,
+            WebRequest webRequest) {
         UUID currentUserId = getCurrentUserId();
+        String etag = projectService.getProjectEtag(projectId, currentUserId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<StepReadDto> steps = stepService.getStepsByProjectId(projectId, pageRequest, name, currentUserId);
+        Slice<StepReadDto> steps = stepService.getStepsByProjectId(projectId, pageRequest, mode, name, currentUserId);
         logger.info("Steps retrieved for project ID: {}", projectId);
-        return ResponseEntity.ok(steps);
+        return ResponseEntity.ok().eTag(etag).body(steps);
+    }
+
+    @GetMapping("/project/{projectId}/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPageDto<StepReadDto>> getStepsByProjectIdAfter(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String name,
+            WebRequest webRequest) {
+        UUID currentUserId = getCurrentUserId();
+        String etag = projectService.getProjectEtag(projectId, currentUserId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        CursorPageDto<StepReadDto> steps = stepService.getStepsByProjectIdAfter(projectId, after, size, name, currentUserId);
+        logger.info("Steps retrieved by cursor for project ID: {}", projectId);
+        return ResponseEntity.ok().eTag(etag).body(steps);
     }
 
 }
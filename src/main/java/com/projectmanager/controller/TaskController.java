@@ -1,15 +1,21 @@
 package com.projectmanager.controller;
 
+import com.projectmanager.dto.page.CursorPageDto;
+import com.projectmanager.dto.page.PageMode;
+import com.projectmanager.dto.task.TaskBatchCreateDto;
+import com.projectmanager.dto.task.TaskBatchResultDto;
+import com.projectmanager.dto.task.TaskBatchUpdateDto;
 import com.projectmanager.dto.task.TaskCreateDto;
 import com.projectmanager.dto.task.TaskReadDto;
 import com.projectmanager.dto.task.TaskUpdateDto;
 import com.projectmanager.entity.TaskStatus;
+import com.projectmanager.service.ProjectService;
 import com.projectmanager.service.TaskService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -23,7 +29,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -33,9 +41,11 @@ public class TaskController {
     private static final Logger logger = LoggerFactory.getLogger(TaskController.class);
 
     private final TaskService taskService;
+    private final ProjectService projectService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, ProjectService projectService) {
         this.taskService = taskService;
+        this.projectService = projectService;
     }
 
     private UUID getCurrentUserId() {
@@ -45,13 +55,31 @@ public class TaskController {
 
     @PostMapping
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<TaskReadDto> createTask(@Valid @RequestBody TaskCreateDto dto) throws Exception {
+    public ResponseEntity<TaskReadDto> createTask(@Valid @RequestBody TaskCreateDto dto) {
         UUID currentUserId = getCurrentUserId();
         TaskReadDto createdTask = taskService.createTask(dto, currentUserId);
         logger.info("Task created with ID: {}", createdTask.getId());
         return ResponseEntity.ok(createdTask);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<TaskBatchResultDto>> createTasks(@Valid @RequestBody TaskBatchCreateDto dto) {
+        UUID currentUserId = getCurrentUserId();
+        List<TaskBatchResultDto> results = taskService.createTasks(dto, currentUserId);
+        logger.info("Batch task creation processed {} items", results.size());
+        return ResponseEntity.ok(results);
+    }
+
+    @PutMapping("/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<TaskBatchResultDto>> updateTasks(@Valid @RequestBody TaskBatchUpdateDto dto) {
+        UUID currentUserId = getCurrentUserId();
+        List<TaskBatchResultDto> results = taskService.updateTasks(dto, currentUserId);
+        logger.info("Batch task update processed {} items", results.size());
+        return ResponseEntity.ok(results);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<TaskReadDto> updateTask(@PathVariable UUID id, @Valid @RequestBody TaskUpdateDto dto) {
@@ -72,31 +100,86 @@ public class TaskController {
 
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<TaskReadDto> getTaskById(@PathVariable UUID id) {
+    public ResponseEntity<TaskReadDto> getTaskById(@PathVariable UUID id, WebRequest webRequest) {
         UUID currentUserId = getCurrentUserId();
+        String etag = taskService.getTaskEtag(id, currentUserId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         TaskReadDto task = taskService.getTaskById(id, currentUserId);
         logger.info("Task retrieved with ID: {}", id);
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok().eTag(etag).body(task);
     }
 
     @GetMapping("/project/{projectId}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Page<TaskReadDto>> getTasksByProjectId(
+    public ResponseEntity<Slice<TaskReadDto>> getTasksByProjectId(
             @PathVariable UUID projectId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "EXACT") PageMode mode,
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String description,
             @RequestParam(required = false) UUID assignedTo,
             @RequestParam(required = false) UUID stepId,
-            @RequestParam(required = false) TaskStatus status) {
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest webRequest) {
         UUID currentUserId = getCurrentUserId();
+        String etag = projectService.getProjectEtag(projectId, currentUserId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<TaskReadDto> tasks = taskService.getTasksByProjectId(projectId, pageRequest, title, description, assignedTo, stepId, status, currentUserId);
+        if (q != null && !q.isBlank()) {
+            Slice<TaskReadDto> results = taskService.searchTasksByProjectId(projectId, q, pageRequest, assignedTo, stepId, status, currentUserId);
+            logger.info("Tasks searched for project ID: {}", projectId);
+            return ResponseEntity.ok().eTag(etag).body(results);
+        }
+        Slice<TaskReadDto> tasks = taskService.getTasksByProjectId(projectId, pageRequest, mode, title, description, assignedTo, stepId, status, includeArchived, currentUserId);
         logger.info("Tasks retrieved for project ID: {}", projectId);
+        return ResponseEntity.ok().eTag(etag).body(tasks);
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Slice<TaskReadDto>> searchTasks(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) UUID assignedTo,
+            @RequestParam(required = false) TaskStatus status) {
+        UUID currentUserId = getCurrentUserId();
+        PageRequest pageRequest = PageRequest.of(page, size);
+        Slice<TaskReadDto> tasks = taskService.searchTasks(q, pageRequest, assignedTo, status, currentUserId);
+        logger.info("Tasks searched across projects for user ID: {}", currentUserId);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/project/{projectId}/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPageDto<TaskReadDto>> getTasksByProjectIdAfter(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) UUID assignedTo,
+            @RequestParam(required = false) UUID stepId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest webRequest) {
+        UUID currentUserId = getCurrentUserId();
+        String etag = projectService.getProjectEtag(projectId, currentUserId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        CursorPageDto<TaskReadDto> tasks = taskService.getTasksByProjectIdAfter(projectId, after, size, title, description, assignedTo, stepId, status, includeArchived, currentUserId);
+        logger.info("Tasks retrieved by cursor for project ID: {}", projectId);
+        return ResponseEntity.ok().eTag(etag).body(tasks);
+    }
+
     @PutMapping("/{id}/status")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<TaskReadDto> updateTaskStatus(@PathVariable UUID id) {
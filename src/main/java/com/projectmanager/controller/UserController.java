@@ -1,5 +1,7 @@
 package com.projectmanager.controller;
 
+import com.projectmanager.dto.page.CursorPageDto;
+import com.projectmanager.dto.page.PageMode;
 import com.projectmanager.dto.user.UserReadDto;
 import com.projectmanager.dto.user.UserUpdateDto;
 import com.projectmanager.entity.Role;
@@ -7,8 +9,8 @@ import com.projectmanager.service.UserService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -61,9 +63,10 @@ public class UserController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<UserReadDto>> getAllUsers(
+    public ResponseEntity<Slice<UserReadDto>> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "EXACT") PageMode mode,
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String email,
             @RequestParam(required = false) String role,
@@ -71,11 +74,26 @@ public class UserController {
         UUID currentUserId = getCurrentUserId();
         Role currentUserRole = getCurrentUserRole();
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<UserReadDto> users = userService.getAllUsers(pageRequest, name, email, role, emailVerified, currentUserId, currentUserRole);
+        Slice<UserReadDto> users = userService.getAllUsers(pageRequest, mode, name, email, role, emailVerified, currentUserId, currentUserRole);
         logger.info("All users retrieved by admin");
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPageDto<UserReadDto>> getAllUsersAfter(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Boolean emailVerified) {
+        Role currentUserRole = getCurrentUserRole();
+        CursorPageDto<UserReadDto> users = userService.getAllUsersAfter(after, size, name, email, role, emailVerified, currentUserRole);
+        logger.info("Users retrieved by cursor by admin");
+        return ResponseEntity.ok(users);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<UserReadDto> updateUser(@PathVariable UUID id, @Valid @RequestBody UserUpdateDto dto) {
@@ -0,0 +1,15 @@
+package com.projectmanager.dto.page;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CursorPageDto<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+}
@@ -0,0 +1,31 @@
+package com.projectmanager.dto.page;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A {@link PageMode#ESTIMATED} page. When counting stopped at the limit, {@code totalCapped} is set and
+ * {@code totalElements} is a lower bound rather than the exact total.
+ */
+public class EstimatedPage<T> extends PageImpl<T> {
+
+    private final boolean totalCapped;
+
+    public EstimatedPage(List<T> content, Pageable pageable, long total, boolean totalCapped) {
+        super(content, pageable, total);
+        this.totalCapped = totalCapped;
+    }
+
+    public boolean isTotalCapped() {
+        return totalCapped;
+    }
+
+    @Override
+    public <U> EstimatedPage<U> map(Function<? super T, ? extends U> converter) {
+        return new EstimatedPage<>(getConvertedContent(converter), getPageable(), getTotalElements(), totalCapped);
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.projectmanager.dto.page;
+
+public enum PageMode {
+    EXACT,
+    SLICE,
+    ESTIMATED
+}
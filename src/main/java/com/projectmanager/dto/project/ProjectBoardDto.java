@@ -0,0 +1,17 @@
+package com.projectmanager.dto.project;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class ProjectBoardDto {
+
+    private UUID id;
+    private String name;
+    private String description;
+    private List<ProjectBoardStepDto> steps;
+    private List<ProjectMemberDto> members;
+
+}
@@ -0,0 +1,19 @@
+package com.projectmanager.dto.project;
+
+import com.projectmanager.dto.task.TaskReadDto;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class ProjectBoardStepDto {
+
+    private UUID id;
+    private String name;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<TaskReadDto> tasks;
+
+}
@@ -0,0 +1,14 @@
+package com.projectmanager.dto.project;
+
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+public class ProjectMemberDto {
+
+    private UUID id;
+    private String name;
+    private String email;
+
+}
@@ -13,6 +13,7 @@ public class ProjectReadDto {
     private String name;
     private String description;
     private Set<UUID> userIds;
+    private long memberCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
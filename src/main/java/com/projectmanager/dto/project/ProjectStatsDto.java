@@ -0,0 +1,17 @@
+package com.projectmanager.dto.project;
+
+import com.projectmanager.entity.TaskStatus;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+public class ProjectStatsDto {
+
+    private UUID projectId;
+    private Map<TaskStatus, Long> totals;
+    private List<ProjectStepStatsDto> steps;
+
+}
@@ -0,0 +1,16 @@
+package com.projectmanager.dto.project;
+
+import com.projectmanager.entity.TaskStatus;
+import lombok.Data;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+public class ProjectStepStatsDto {
+
+    private UUID stepId;
+    private String name;
+    private Map<TaskStatus, Long> counts;
+
+}
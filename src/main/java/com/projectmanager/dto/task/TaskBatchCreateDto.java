@@ -0,0 +1,17 @@
+package com.projectmanager.dto.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskBatchCreateDto {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@Valid TaskCreateDto> tasks;
+
+}
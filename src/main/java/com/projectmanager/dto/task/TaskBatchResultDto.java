@@ -0,0 +1,13 @@
+package com.projectmanager.dto.task;
+
+import lombok.Data;
+
+@Data
+public class TaskBatchResultDto {
+
+    private int index;
+    private boolean success;
+    private TaskReadDto task;
+    private String error;
+
+}
@@ -0,0 +1,16 @@
+package com.projectmanager.dto.task;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.UUID;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class TaskBatchUpdateItemDto extends TaskUpdateDto {
+
+    @NotNull
+    private UUID id;
+
+}
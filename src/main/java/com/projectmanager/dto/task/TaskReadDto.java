@@ -17,5 +17,6 @@ public class TaskReadDto {
     private TaskStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private boolean archived;
 
 }
@@ -0,0 +1,52 @@
+package com.projectmanager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "archived_tasks", indexes = {
+        @Index(name = "idx_archived_tasks_project_created_at_id", columnList = "projectId, createdAt, id"),
+        @Index(name = "idx_archived_tasks_step_id", columnList = "stepId")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedTask {
+
+    @Id
+    private UUID id;
+
+    private String title;
+
+    private String description;
+
+    @Column(name = "assigned_to")
+    private UUID assignedToId;
+
+    private UUID stepId;
+
+    private UUID projectId;
+
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime archivedAt;
+
+}
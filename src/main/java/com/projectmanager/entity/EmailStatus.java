@@ -0,0 +1,7 @@
+package com.projectmanager.entity;
+
+public enum EmailStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,45 @@
+package com.projectmanager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "one_time_tokens", indexes = {
+        @Index(name = "idx_one_time_tokens_expires_at", columnList = "expiresAt")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(org.springframework.data.jpa.domain.support.AuditingEntityListener.class)
+public class OneTimeToken {
+
+    @Id
+    @Column(length = 64)
+    private String tokenHash;
+
+    @Enumerated(EnumType.STRING)
+    private TokenPurpose purpose;
+
+    private String subject;
+
+    private LocalDateTime expiresAt;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+}
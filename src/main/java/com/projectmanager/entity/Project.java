@@ -1,18 +1,27 @@
 package com.projectmanager.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -23,12 +32,17 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_created_at_id", columnList = "createdAt, id"),
+        @Index(name = "idx_projects_deleted_at", columnList = "deletedAt")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @SQLRestriction("deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 @EntityListeners(org.springframework.data.jpa.domain.support.AuditingEntityListener.class)
 public class Project {
 
@@ -43,17 +57,37 @@ public class Project {
     @JoinTable(
             name = "project_users",
             joinColumns = @JoinColumn(name = "project_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
+            inverseJoinColumns = @JoinColumn(name = "user_id"),
+            indexes = @Index(name = "idx_project_users_user_id", columnList = "user_id")
     )
     @Builder.Default
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project-users")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Set<User> users = new HashSet<>();
 
     @OneToMany(mappedBy = "project")
     @Builder.Default
+    @BatchSize(size = 50)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Set<Step> steps = new HashSet<>();
 
     private boolean deleted;
 
+    private LocalDateTime deletedAt;
+
+    // Bumped in the writing transaction whenever the project, its members, steps or tasks change
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long changeVersion;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,38 @@
+package com.projectmanager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "soft_delete_cascades")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SoftDeleteCascade {
+
+    @Id
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    private SoftDeleteScope scope;
+
+    private UUID parentId;
+
+    private long processed;
+
+    @Column(updatable = false)
+    private LocalDateTime deletedAt;
+
+}
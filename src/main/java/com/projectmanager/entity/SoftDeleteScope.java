@@ -0,0 +1,6 @@
+package com.projectmanager.entity;
+
+public enum SoftDeleteScope {
+    PROJECT,
+    STEP
+}
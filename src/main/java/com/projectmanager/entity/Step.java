@@ -1,17 +1,28 @@
 package com.projectmanager.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -22,30 +33,50 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "steps")
+@Table(name = "steps", indexes = {
+        @Index(name = "idx_steps_project_created_at_id", columnList = "project_id, createdAt, id"),
+        @Index(name = "idx_steps_deleted_at", columnList = "deletedAt")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @SQLRestriction("deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "steps")
+@NamedEntityGraph(name = Step.WITH_PROJECT, attributeNodes = @NamedAttributeNode("project"))
 @EntityListeners(org.springframework.data.jpa.domain.support.AuditingEntityListener.class)
 public class Step {
 
+    // Fetch plan for creating tasks, which need the project name for assignment notifications
+    public static final String WITH_PROJECT = "Step.withProject";
+
     @Id
     private UUID id;
 
     private String name;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Project project;
 
     @OneToMany(mappedBy = "step")
     @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Set<Task> tasks = new HashSet<>();
 
     private boolean deleted;
 
+    private LocalDateTime deletedAt;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
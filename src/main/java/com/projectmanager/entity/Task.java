@@ -5,14 +5,23 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -21,15 +30,26 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_created_at_id", columnList = "createdAt, id"),
+        @Index(name = "idx_tasks_step_created_at_id", columnList = "step_id, createdAt, id"),
+        @Index(name = "idx_tasks_assigned_to", columnList = "assigned_to"),
+        @Index(name = "idx_tasks_deleted_at", columnList = "deletedAt")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @SQLRestriction("deleted = false")
+@NamedEntityGraph(name = Task.WITH_STEP_AND_PROJECT,
+        attributeNodes = @NamedAttributeNode(value = "step", subgraph = "step"),
+        subgraphs = @NamedSubgraph(name = "step", attributeNodes = @NamedAttributeNode("project")))
 @EntityListeners(org.springframework.data.jpa.domain.support.AuditingEntityListener.class)
 public class Task {
 
+    // Fetch plan for writes that check membership through the step and notify with the project name
+    public static final String WITH_STEP_AND_PROJECT = "Task.withStepAndProject";
+
     @Id
     private UUID id;
 
@@ -37,12 +57,16 @@ public class Task {
 
     private String description;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_to")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User assignedTo;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "step_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Step step;
 
     @Enumerated(EnumType.STRING)
@@ -50,6 +74,13 @@ public class Task {
 
     private boolean deleted;
 
+    private LocalDateTime deletedAt;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
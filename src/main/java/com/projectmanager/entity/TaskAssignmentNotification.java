@@ -0,0 +1,44 @@
+package com.projectmanager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "task_assignment_notifications", indexes = {
+        @Index(name = "idx_task_assignment_notifications_recipient", columnList = "recipient, createdAt")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(org.springframework.data.jpa.domain.support.AuditingEntityListener.class)
+public class TaskAssignmentNotification {
+
+    @Id
+    private UUID id;
+
+    private String recipient;
+
+    private UUID taskId;
+
+    private String taskTitle;
+
+    private String projectName;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+}
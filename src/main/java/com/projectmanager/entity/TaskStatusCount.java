@@ -0,0 +1,31 @@
+package com.projectmanager.entity;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "task_status_counts", indexes = {
+        @Index(name = "idx_task_status_counts_project_id", columnList = "projectId")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskStatusCount {
+
+    @EmbeddedId
+    private TaskStatusCountId id;
+
+    private UUID projectId;
+
+    private long taskCount;
+
+}
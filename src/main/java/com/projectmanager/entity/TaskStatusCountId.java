@@ -0,0 +1,24 @@
+package com.projectmanager.entity;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusCountId implements Serializable {
+
+    private UUID stepId;
+
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+}
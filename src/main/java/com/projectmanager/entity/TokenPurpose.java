@@ -0,0 +1,6 @@
+package com.projectmanager.entity;
+
+public enum TokenPurpose {
+    EMAIL_VERIFICATION,
+    PASSWORD_RESET
+}
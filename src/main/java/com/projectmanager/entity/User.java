@@ -1,16 +1,20 @@
 package com.projectmanager.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -19,12 +23,17 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created_at_id", columnList = "createdAt, id"),
+        @Index(name = "idx_users_deleted_at", columnList = "deletedAt")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @SQLRestriction("deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @EntityListeners(org.springframework.data.jpa.domain.support.AuditingEntityListener.class)
 public class User {
 
@@ -45,6 +54,8 @@ public class User {
 
     private boolean deleted;
 
+    private LocalDateTime deletedAt;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,137 @@
+package com.projectmanager.job;
+
+import com.projectmanager.entity.EmailOutboxMessage;
+import com.projectmanager.service.EmailOutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+
+    private final EmailOutboxService emailOutboxService;
+    private final JavaMailSender mailSender;
+    private final ExecutorService deliveryExecutor;
+    private final AtomicLong pendingCount;
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    @Value("${app.email.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.email.outbox.messages-per-connection:20}")
+    private int messagesPerConnection;
+
+    public EmailOutboxDispatcher(EmailOutboxService emailOutboxService, JavaMailSender mailSender, MeterRegistry meterRegistry,
+                                 @Value("${app.email.outbox.workers:4}") int workers) {
+        this.emailOutboxService = emailOutboxService;
+        this.mailSender = mailSender;
+        // Stays on platform threads when the rest of the app runs on virtual ones: JavaMail's SMTP transport blocks
+        // inside synchronized methods, which would pin a carrier thread for the whole send
+        this.deliveryExecutor = Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("email-delivery-", 0).factory());
+        this.pendingCount = meterRegistry.gauge("email.outbox.pending", new AtomicLong());
+        this.sendTimer = Timer.builder("email.outbox.send").register(meterRegistry);
+        this.sentCounter = Counter.builder("email.outbox.sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("email.outbox.failures").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-interval:5000}")
+    public void dispatch() {
+        List<EmailOutboxMessage> due = emailOutboxService.claimDue(batchSize);
+        if (!due.isEmpty()) {
+            List<CompletableFuture<Void>> deliveries = new ArrayList<>();
+            for (int i = 0; i < due.size(); i += messagesPerConnection) {
+                List<EmailOutboxMessage> chunk = due.subList(i, Math.min(i + messagesPerConnection, due.size()));
+                deliveries.add(CompletableFuture.runAsync(() -> deliver(chunk), deliveryExecutor));
+            }
+            CompletableFuture.allOf(deliveries.toArray(new CompletableFuture[0])).join();
+            logger.info("Dispatched {} queued emails", due.size());
+        }
+        pendingCount.set(emailOutboxService.countPending());
+    }
+
+    private void deliver(List<EmailOutboxMessage> messages) {
+        Map<MimeMessage, EmailOutboxMessage> mimeMessages = new LinkedHashMap<>();
+        Map<UUID, String> failures = new HashMap<>();
+        List<UUID> sentIds = new ArrayList<>();
+
+        for (EmailOutboxMessage message : messages) {
+            try {
+                mimeMessages.put(toMimeMessage(message), message);
+            } catch (MessagingException e) {
+                failures.put(message.getId(), e.getMessage());
+            }
+        }
+
+        if (!mimeMessages.isEmpty()) {
+            Timer.Sample sample = Timer.start();
+            try {
+                // A single send call reuses one SMTP connection for the whole chunk
+                mailSender.send(mimeMessages.keySet().toArray(new MimeMessage[0]));
+                mimeMessages.values().forEach(message -> sentIds.add(message.getId()));
+            } catch (MailSendException e) {
+                Map<Object, Exception> failedMessages = e.getFailedMessages();
+                mimeMessages.forEach((mimeMessage, message) -> {
+                    Exception failure = failedMessages.isEmpty() ? e : failedMessages.get(mimeMessage);
+                    if (failure == null) {
+                        sentIds.add(message.getId());
+                    } else {
+                        failures.put(message.getId(), failure.getMessage());
+                    }
+                });
+            } catch (MailException e) {
+                mimeMessages.values().forEach(message -> failures.put(message.getId(), e.getMessage()));
+            }
+            sample.stop(sendTimer);
+        }
+
+        if (!failures.isEmpty()) {
+            logger.warn("Failed to deliver {} of {} emails", failures.size(), messages.size());
+        }
+        sentCounter.increment(sentIds.size());
+        failedCounter.increment(failures.size());
+        emailOutboxService.recordResults(sentIds, failures);
+    }
+
+    private MimeMessage toMimeMessage(EmailOutboxMessage message) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true);
+
+        helper.setTo(message.getRecipient());
+        helper.setSubject(message.getSubject());
+        helper.setText(message.getBody(), true);
+        return mimeMessage;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deliveryExecutor.shutdown();
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.projectmanager.job;
+
+import com.projectmanager.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class RefreshTokenPurgeJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenPurgeJob.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AtomicLong tableSize;
+    private final Timer purgeTimer;
+    private final Counter purgedCounter;
+
+    @Value("${app.refresh-tokens.purge-batch-size:1000}")
+    private int batchSize;
+
+    public RefreshTokenPurgeJob(RefreshTokenRepository refreshTokenRepository, MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tableSize = meterRegistry.gauge("refresh_tokens.rows", new AtomicLong());
+        this.purgeTimer = Timer.builder("refresh_tokens.purge").register(meterRegistry);
+        this.purgedCounter = Counter.builder("refresh_tokens.purged").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.refresh-tokens.purge-interval:3600000}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        long total = purgeTimer.record(() -> {
+            long purged = 0;
+            int deleted;
+            // Each batch commits on its own so row locks are only held for one small delete
+            do {
+                deleted = refreshTokenRepository.deleteExpiredBatch(cutoff, batchSize);
+                purged += deleted;
+                purgedCounter.increment(deleted);
+            } while (deleted == batchSize);
+            return purged;
+        });
+
+        if (total > 0) {
+            logger.info("Purged {} expired or revoked refresh tokens", total);
+        }
+        tableSize.set(refreshTokenRepository.count());
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.projectmanager.job;
+
+import com.projectmanager.repository.ArchivedTaskRepository;
+import com.projectmanager.repository.EmailOutboxRepository;
+import com.projectmanager.repository.ProjectRepository;
+import com.projectmanager.repository.StepRepository;
+import com.projectmanager.repository.TaskRepository;
+import com.projectmanager.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Hard-deletes rows that were soft-deleted more than the retention period ago. Tables are purged children
+ * first (archived tasks, tasks, steps, projects, users) so that foreign keys are satisfied, each in small batches that
+ * commit on their own. Delivered outbox emails older than the retention period are removed the same way.
+ * In dry-run mode the job only logs how many rows it would remove.
+ */
+@Component
+@ConditionalOnProperty(name = "app.retention.enabled", havingValue = "true", matchIfMissing = true)
+public class RetentionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetentionJob.class);
+
+    private final Map<String, Purge> purges = new LinkedHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Timer runTimer;
+
+    @Value("${app.retention.days:30}")
+    private int retentionDays;
+
+    @Value("${app.retention.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.retention.dry-run:false}")
+    private boolean dryRun;
+
+    public RetentionJob(ArchivedTaskRepository archivedTaskRepository, TaskRepository taskRepository, StepRepository stepRepository,
+                        ProjectRepository projectRepository, UserRepository userRepository,
+                        EmailOutboxRepository emailOutboxRepository, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.runTimer = Timer.builder("retention.run").register(meterRegistry);
+        purges.put("archived_tasks", new Purge(archivedTaskRepository::purgeDeletedBatch, archivedTaskRepository::countPurgeable));
+        purges.put("tasks", new Purge(taskRepository::purgeDeletedBatch, taskRepository::countPurgeable));
+        purges.put("steps", new Purge(stepRepository::purgeDeletedBatch, stepRepository::countPurgeable));
+        purges.put("projects", new Purge(projectRepository::purgeDeletedBatch, projectRepository::countPurgeable));
+        purges.put("users", new Purge(userRepository::purgeDeletedBatch, userRepository::countPurgeable));
+        purges.put("email_outbox", new Purge(emailOutboxRepository::purgeSentBatch, emailOutboxRepository::countPurgeable));
+    }
+
+    @Scheduled(fixedDelayString = "${app.retention.interval:3600000}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        runTimer.record(() -> purges.forEach((table, purge) -> {
+            if (dryRun) {
+                logger.info("Retention dry run: {} rows of {} older than {} would be removed", purge.count().apply(cutoff), table, cutoff);
+                return;
+            }
+            Counter purgedCounter = Counter.builder("retention.purged").tag("table", table).register(meterRegistry);
+            long total = 0;
+            int deleted;
+            do {
+                deleted = purge.batch().apply(cutoff, batchSize);
+                purgedCounter.increment(deleted);
+                total += deleted;
+            } while (deleted == batchSize);
+            if (total > 0) {
+                logger.info("Retention removed {} rows of {} older than {}", total, table, cutoff);
+            }
+        }));
+    }
+
+    private record Purge(BiFunction<LocalDateTime, Integer, Integer> batch, Function<LocalDateTime, Long> count) {
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.projectmanager.job;
+
+import com.projectmanager.service.SoftDeleteService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SoftDeleteCascadeJob {
+
+    private final SoftDeleteService softDeleteService;
+    private final Counter cascadedCounter;
+
+    public SoftDeleteCascadeJob(SoftDeleteService softDeleteService, MeterRegistry meterRegistry) {
+        this.softDeleteService = softDeleteService;
+        this.cascadedCounter = Counter.builder("soft_delete.cascaded_tasks").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.soft-delete.poll-interval:5000}")
+    public void cascade() {
+        int deleted;
+        while ((deleted = softDeleteService.processNextChunk()) >= 0) {
+            cascadedCounter.increment(deleted);
+        }
+    }
+
+}
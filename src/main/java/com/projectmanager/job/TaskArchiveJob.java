@@ -0,0 +1,50 @@
+package com.projectmanager.job;
+
+import com.projectmanager.repository.ArchivedTaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+public class TaskArchiveJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiveJob.class);
+
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final Counter archivedCounter;
+
+    @Value("${app.archive.done-after-days:30}")
+    private int doneAfterDays;
+
+    @Value("${app.archive.batch-size:1000}")
+    private int batchSize;
+
+    public TaskArchiveJob(ArchivedTaskRepository archivedTaskRepository, MeterRegistry meterRegistry) {
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.archivedCounter = Counter.builder("tasks.archived").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.interval:3600000}")
+    public void archive() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusDays(doneAfterDays);
+        long total = 0;
+        long moved;
+        do {
+            moved = archivedTaskRepository.archiveDoneBatch(cutoff, now, batchSize);
+            archivedCounter.increment(moved);
+            total += moved;
+        } while (moved == batchSize);
+
+        if (total > 0) {
+            logger.info("Archived {} tasks completed before {}", total, cutoff);
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.projectmanager.job;
+
+import com.projectmanager.service.NotificationDigestService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TaskAssignmentDigestJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskAssignmentDigestJob.class);
+
+    private final NotificationDigestService notificationDigestService;
+
+    public TaskAssignmentDigestJob(NotificationDigestService notificationDigestService) {
+        this.notificationDigestService = notificationDigestService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.digest.poll-interval:30000}")
+    public void flushDigests() {
+        int notifications = 0;
+        int recipients = 0;
+        for (String recipient : notificationDigestService.findRecipientsDue()) {
+            try {
+                notifications += notificationDigestService.flushRecipient(recipient);
+                recipients++;
+            } catch (Exception e) {
+                logger.error("Failed to flush task assignment digest for: {}", recipient, e);
+            }
+        }
+        if (recipients > 0) {
+            logger.info("Flushed {} task assignment notifications into {} digests", notifications, recipients);
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.projectmanager.job;
+
+import com.projectmanager.repository.ProjectRepository;
+import com.projectmanager.service.TaskStatsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class TaskCounterReconciliationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCounterReconciliationJob.class);
+
+    private final ProjectRepository projectRepository;
+    private final TaskStatsService taskStatsService;
+    private final Counter correctedCounter;
+
+    @Value("${app.task-counters.reconcile-batch-size:100}")
+    private int batchSize;
+
+    public TaskCounterReconciliationJob(ProjectRepository projectRepository, TaskStatsService taskStatsService,
+                                        MeterRegistry meterRegistry) {
+        this.projectRepository = projectRepository;
+        this.taskStatsService = taskStatsService;
+        this.correctedCounter = Counter.builder("task_counters.corrected").register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${app.task-counters.reconcile-interval:21600000}",
+            fixedDelayString = "${app.task-counters.reconcile-interval:21600000}")
+    public void reconcile() {
+        long corrected = 0;
+        UUID after = new UUID(0, 0);
+        List<UUID> projectIds;
+        do {
+            projectIds = projectRepository.findIdsAfter(after, Limit.of(batchSize));
+            // One transaction per project keeps counter rows locked only while that project is recounted
+            for (UUID projectId : projectIds) {
+                corrected += taskStatsService.reconcileProject(projectId);
+            }
+            if (!projectIds.isEmpty()) {
+                after = projectIds.get(projectIds.size() - 1);
+            }
+        } while (projectIds.size() == batchSize);
+
+        correctedCounter.increment(corrected);
+        if (corrected > 0) {
+            logger.warn("Task counter reconciliation corrected {} rows", corrected);
+        }
+    }
+
+}
@@ -1,18 +1,17 @@
 package com.projectmanager.mapper;
 
+import com.projectmanager.dto.project.ProjectBoardDto;
 import com.projectmanager.dto.project.ProjectCreateDto;
+import com.projectmanager.dto.project.ProjectMemberDto;
 import com.projectmanager.dto.project.ProjectReadDto;
 import com.projectmanager.dto.project.ProjectUpdateDto;
 import com.projectmanager.entity.Project;
-import com.projectmanager.entity.User;
+import com.projectmanager.repository.projection.ProjectMemberView;
+import com.projectmanager.repository.projection.ProjectSummaryView;
+import com.projectmanager.repository.projection.ProjectView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
-import org.mapstruct.Named;
-
-import java.util.Set;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Mapper(componentModel = "spring")
 public interface ProjectMapper {
@@ -21,29 +20,36 @@ public interface ProjectMapper {
     @Mapping(target = "users", ignore = true)
     @Mapping(target = "steps", ignore = true)
     @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "changeVersion", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     Project toEntity(ProjectCreateDto dto);
 
-    @Mapping(target = "userIds", source = "users", qualifiedByName = "usersToIds")
+    @Mapping(target = "userIds", ignore = true)
+    @Mapping(target = "memberCount", ignore = true)
     ProjectReadDto toReadDto(Project entity);
 
+    @Mapping(target = "userIds", ignore = true)
+    @Mapping(target = "memberCount", ignore = true)
+    ProjectReadDto toReadDto(ProjectView view);
+
+    @Mapping(target = "steps", ignore = true)
+    @Mapping(target = "members", ignore = true)
+    ProjectBoardDto toBoardDto(ProjectSummaryView view);
+
+    ProjectMemberDto toMemberDto(ProjectMemberView view);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "users", ignore = true)
     @Mapping(target = "steps", ignore = true)
     @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "changeVersion", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     void updateEntity(@MappingTarget Project entity, ProjectUpdateDto dto);
 
-    @Named("usersToIds")
-    default Set<UUID> usersToIds(Set<User> users) {
-        if (users == null) {
-            return null;
-        }
-        return users.stream()
-                .map(User::getId)
-                .collect(Collectors.toSet());
-    }
-
 }
@@ -4,6 +4,7 @@ import com.projectmanager.dto.step.StepCreateDto;
 import com.projectmanager.dto.step.StepReadDto;
 import com.projectmanager.dto.step.StepUpdateDto;
 import com.projectmanager.entity.Step;
+import com.projectmanager.repository.projection.StepView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -15,16 +16,22 @@ public interface StepMapper {
     @Mapping(target = "project", ignore = true)
     @Mapping(target = "tasks", ignore = true)
     @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     Step toEntity(StepCreateDto dto);
 
     StepReadDto toReadDto(Step entity);
 
+    StepReadDto toReadDto(StepView view);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "project", ignore = true)
     @Mapping(target = "tasks", ignore = true)
     @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     void updateEntity(@MappingTarget Step entity, StepUpdateDto dto);
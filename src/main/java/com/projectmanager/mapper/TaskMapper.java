@@ -3,12 +3,16 @@ package com.projectmanager.mapper;
 import com.projectmanager.dto.task.TaskCreateDto;
 import com.projectmanager.dto.task.TaskReadDto;
 import com.projectmanager.dto.task.TaskUpdateDto;
+import com.projectmanager.entity.ArchivedTask;
 import com.projectmanager.entity.Task;
 import com.projectmanager.entity.User;
+import com.projectmanager.repository.projection.TaskView;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
+import org.mapstruct.NullValuePropertyMappingStrategy;
 
 import java.util.UUID;
 
@@ -20,18 +24,31 @@ public interface TaskMapper {
     @Mapping(target = "step", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     Task toEntity(TaskCreateDto dto);
 
     @Mapping(target = "assignedToId", source = "assignedTo", qualifiedByName = "userToId")
     @Mapping(target = "stepId", source = "step.id")
+    @Mapping(target = "archived", ignore = true)
     TaskReadDto toReadDto(Task entity);
 
+    @Mapping(target = "archived", ignore = true)
+    TaskReadDto toReadDto(TaskView view);
+
+    @Mapping(target = "archived", constant = "true")
+    TaskReadDto toReadDto(ArchivedTask entity);
+
+    // Partial update: fields left out of the request keep their current values
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "assignedTo", ignore = true)
     @Mapping(target = "step", ignore = true)
     @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     void updateEntity(@MappingTarget Task entity, TaskUpdateDto dto);
@@ -4,6 +4,7 @@ import com.projectmanager.dto.user.UserCreateDto;
 import com.projectmanager.dto.user.UserReadDto;
 import com.projectmanager.dto.user.UserUpdateDto;
 import com.projectmanager.entity.User;
+import com.projectmanager.repository.projection.UserView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -15,18 +16,22 @@ public interface UserMapper {
     @Mapping(target = "role", ignore = true)
     @Mapping(target = "emailVerified", ignore = true)
     @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     User toEntity(UserCreateDto dto);
 
     UserReadDto toReadDto(User entity);
 
+    UserReadDto toReadDto(UserView view);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "email", ignore = true)
     @Mapping(target = "password", ignore = true)
     @Mapping(target = "role", ignore = true)
     @Mapping(target = "emailVerified", ignore = true)
     @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     void updateEntity(@MappingTarget User entity, UserUpdateDto dto);
@@ -0,0 +1,55 @@
+package com.projectmanager.repository;
+
+import com.projectmanager.entity.ArchivedTask;
+import com.projectmanager.repository.projection.ResourceVersionView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedTaskRepository extends BaseRepository<ArchivedTask, UUID> {
+
+    // Archived tasks of deleted steps are hidden like their live siblings
+    @Query("select a from ArchivedTask a where a.id = :id and a.stepId in (select s.id from Step s)")
+    Optional<ArchivedTask> findLiveById(@Param("id") UUID id);
+
+    @Query("select a.projectId as projectId, a.updatedAt as updatedAt from ArchivedTask a " +
+            "where a.id = :id and a.stepId in (select s.id from Step s)")
+    Optional<ResourceVersionView> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Moves a batch of DONE tasks last updated before the cutoff into the archive and bumps the change counter of
+     * their projects, all in one statement. Returns the number of tasks moved.
+     */
+    @Transactional
+    @Query(value = "WITH moved AS (DELETE FROM tasks WHERE id IN (SELECT id FROM tasks WHERE status = 'DONE' " +
+            "AND deleted = false AND updated_at < :cutoff LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+            "RETURNING id, title, description, assigned_to, step_id, status, created_at, updated_at), " +
+            "archived AS (INSERT INTO archived_tasks (id, title, description, assigned_to, step_id, project_id, status, " +
+            "created_at, updated_at, archived_at) SELECT m.id, m.title, m.description, m.assigned_to, m.step_id, s.project_id, " +
+            "m.status, m.created_at, m.updated_at, :now FROM moved m JOIN steps s ON s.id = m.step_id RETURNING project_id), " +
+            "bumped AS (UPDATE projects SET change_version = change_version + 1 WHERE id IN (SELECT project_id FROM archived)) " +
+            "SELECT count(*) FROM archived", nativeQuery = true)
+    long archiveDoneBatch(@Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "archived_tasks"))
+    @Query(value = "DELETE FROM archived_tasks WHERE id IN (SELECT a.id FROM archived_tasks a JOIN steps s ON s.id = a.step_id " +
+            "WHERE s.deleted = true AND s.deleted_at < :cutoff LIMIT :limit)", nativeQuery = true)
+    int purgeDeletedBatch(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Query(value = "SELECT count(*) FROM archived_tasks a JOIN steps s ON s.id = a.step_id " +
+            "WHERE s.deleted = true AND s.deleted_at < :cutoff", nativeQuery = true)
+    long countPurgeable(@Param("cutoff") LocalDateTime cutoff);
+
+}
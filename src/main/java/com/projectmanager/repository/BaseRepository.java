@@ -0,0 +1,36 @@
+package com.projectmanager.repository;
+
+import com.projectmanager.dto.page.EstimatedPage;
+import com.projectmanager.dto.page.PageMode;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+
+@NoRepositoryBean
+public interface BaseRepository<T, ID> extends JpaRepository<T, ID>, JpaSpecificationExecutor<T> {
+
+    List<T> findAll(Specification<T> spec, Sort sort, long offset, int limit);
+
+    Slice<T> findAll(Specification<T> spec, Pageable pageable, PageMode mode);
+
+    Slice<T> findSlice(Specification<T> spec, Pageable pageable);
+
+    EstimatedPage<T> findAllEstimated(Specification<T> spec, Pageable pageable);
+
+    /**
+     * Selects only the properties declared by the projection interface. A property named {@code fooId} that
+     * is not an attribute of the entity is read from the foreign key of the {@code foo} association.
+     */
+    <P> List<P> findAll(Specification<T> spec, Sort sort, long offset, int limit, Class<P> projection);
+
+    <P> Slice<P> findAll(Specification<T> spec, Pageable pageable, PageMode mode, Class<P> projection);
+
+    <S extends T> List<S> persistAll(Iterable<S> entities);
+
+}
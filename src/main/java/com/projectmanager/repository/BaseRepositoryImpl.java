@@ -0,0 +1,192 @@
+package com.projectmanager.repository;
+
+import com.projectmanager.dto.page.EstimatedPage;
+import com.projectmanager.dto.page.PageMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Transactional(readOnly = true)
+public class BaseRepositoryImpl<T, ID> extends SimpleJpaRepository<T, ID> implements BaseRepository<T, ID> {
+
+    private static final int ESTIMATE_COUNT_LIMIT = 1000;
+
+    private final JpaEntityInformation<T, ?> entityInformation;
+    private final EntityManager entityManager;
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    public BaseRepositoryImpl(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityInformation = entityInformation;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<T> findAll(Specification<T> spec, Sort sort, long offset, int limit) {
+        TypedQuery<T> query = getQuery(spec, sort);
+        query.setFirstResult(Math.toIntExact(offset));
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public Slice<T> findAll(Specification<T> spec, Pageable pageable, PageMode mode) {
+        return switch (mode == null ? PageMode.EXACT : mode) {
+            case SLICE -> findSlice(spec, pageable);
+            case ESTIMATED -> findAllEstimated(spec, pageable);
+            case EXACT -> findAll(spec, pageable);
+        };
+    }
+
+    @Override
+    public Slice<T> findSlice(Specification<T> spec, Pageable pageable) {
+        int size = pageable.getPageSize();
+        List<T> rows = findAll(spec, pageable.getSort(), pageable.getOffset(), size + 1);
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public EstimatedPage<T> findAllEstimated(Specification<T> spec, Pageable pageable) {
+        List<T> content = findAll(spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        return estimatedPage(spec, content, pageable);
+    }
+
+    @Override
+    public <P> List<P> findAll(Specification<T> spec, Sort sort, long offset, int limit, Class<P> projection) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(getDomainClass());
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (PropertyDescriptor property : projectionFactory.getProjectionInformation(projection).getInputProperties()) {
+            selections.add(resolvePath(root, property.getName()).alias(property.getName()));
+        }
+        query.multiselect(selections);
+
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(tuple -> toProjection(tuple, projection))
+                .toList();
+    }
+
+    @Override
+    public <P> Slice<P> findAll(Specification<T> spec, Pageable pageable, PageMode mode, Class<P> projection) {
+        int size = pageable.getPageSize();
+        long offset = pageable.getOffset();
+        return switch (mode == null ? PageMode.EXACT : mode) {
+            case SLICE -> {
+                List<P> rows = findAll(spec, pageable.getSort(), offset, size + 1, projection);
+                boolean hasNext = rows.size() > size;
+                yield new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+            }
+            case ESTIMATED -> estimatedPage(spec, findAll(spec, pageable.getSort(), offset, size, projection), pageable);
+            case EXACT -> PageableExecutionUtils.getPage(findAll(spec, pageable.getSort(), offset, size, projection),
+                    pageable, () -> count(spec));
+        };
+    }
+
+    @Override
+    @Transactional
+    public <S extends T> List<S> persistAll(Iterable<S> entities) {
+        List<S> persisted = new ArrayList<>();
+        for (S entity : entities) {
+            entityManager.persist(entity);
+            persisted.add(entity);
+        }
+        return persisted;
+    }
+
+    // Counts one row past the limit, so a total that reaches the limit is only flagged when more rows exist
+    private <P> EstimatedPage<P> estimatedPage(Specification<T> spec, List<P> content, Pageable pageable) {
+        long offset = pageable.getOffset();
+        if (content.size() < pageable.getPageSize()) {
+            return new EstimatedPage<>(content, pageable, offset + content.size(), false);
+        }
+        long remaining = countUpTo(spec, offset, ESTIMATE_COUNT_LIMIT + 1);
+        boolean capped = remaining > ESTIMATE_COUNT_LIMIT;
+        return new EstimatedPage<>(content, pageable, offset + Math.min(remaining, ESTIMATE_COUNT_LIMIT), capped);
+    }
+
+    private long countUpTo(Specification<T> spec, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> query = cb.createQuery(Object.class);
+        Root<T> root = query.from(getDomainClass());
+        query.select(root.get(entityInformation.getRequiredIdAttribute().getName()));
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList()
+                .size();
+    }
+
+    private Path<?> resolvePath(Root<T> root, String property) {
+        if (hasAttribute(property) || !property.endsWith("Id")) {
+            return root.get(property);
+        }
+        // Reading the id of a to-one association only needs the foreign key column, so no join is added
+        return root.get(property.substring(0, property.length() - 2)).get("id");
+    }
+
+    private boolean hasAttribute(String name) {
+        for (Attribute<? super T, ?> attribute : entityManager.getMetamodel().entity(getDomainClass()).getAttributes()) {
+            if (attribute.getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <P> P toProjection(Tuple tuple, Class<P> projection) {
+        Map<String, Object> values = new HashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            values.put(element.getAlias(), tuple.get(element));
+        }
+        return projectionFactory.createProjection(projection, values);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.projectmanager.repository;
+
+import com.projectmanager.entity.EmailOutboxMessage;
+import com.projectmanager.entity.EmailStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, UUID> {
+
+    @Query(value = "SELECT * FROM email_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EmailOutboxMessage> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByStatus(EmailStatus status);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "email_outbox"))
+    @Query(value = "DELETE FROM email_outbox WHERE id IN (SELECT id FROM email_outbox WHERE status = 'SENT' AND sent_at < :cutoff " +
+            "LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int purgeSentBatch(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Query(value = "SELECT count(*) FROM email_outbox WHERE status = 'SENT' AND sent_at < :cutoff", nativeQuery = true)
+    long countPurgeable(@Param("cutoff") LocalDateTime cutoff);
+
+}
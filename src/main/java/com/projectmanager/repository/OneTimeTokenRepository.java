@@ -0,0 +1,24 @@
+package com.projectmanager.repository;
+
+import com.projectmanager.entity.OneTimeToken;
+import com.projectmanager.entity.TokenPurpose;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface OneTimeTokenRepository extends JpaRepository<OneTimeToken, String> {
+
+    @Modifying
+    @Query("delete from OneTimeToken t where t.tokenHash = :tokenHash and t.purpose = :purpose")
+    int deleteByTokenHashAndPurpose(@Param("tokenHash") String tokenHash, @Param("purpose") TokenPurpose purpose);
+
+    @Modifying
+    @Query("delete from OneTimeToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+}
@@ -1,13 +1,108 @@
 package com.projectmanager.repository;
 
 import com.projectmanager.entity.Project;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import com.projectmanager.repository.projection.ProjectMemberView;
+import com.projectmanager.repository.projection.ProjectSummaryView;
+import com.projectmanager.repository.projection.ProjectUserIdView;
+import com.projectmanager.repository.projection.ProjectView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, UUID>, JpaSpecificationExecutor<Project> {
+public interface ProjectRepository extends BaseRepository<Project, UUID> {
+
+    @Query("select u.id from Project p join p.users u where p.id = :projectId")
+    List<UUID> findUserIdsByProjectId(@Param("projectId") UUID projectId);
+
+    /**
+     * Returns up to {@code limit} member ids of each project, every row carrying the project's total member count.
+     * Projects without members return no rows.
+     */
+    @Query(value = "SELECT m.project_id AS \"projectId\", m.user_id AS \"userId\", m.member_count AS \"memberCount\" FROM (" +
+            "SELECT pu.project_id, pu.user_id, row_number() OVER (PARTITION BY pu.project_id ORDER BY pu.user_id) AS rn, " +
+            "count(*) OVER (PARTITION BY pu.project_id) AS member_count " +
+            "FROM project_users pu JOIN users u ON u.id = pu.user_id AND u.deleted = false " +
+            "WHERE pu.project_id IN (:projectIds)) m WHERE m.rn <= :limit", nativeQuery = true)
+    List<ProjectUserIdView> findUserIdsByProjectIds(@Param("projectIds") Collection<UUID> projectIds, @Param("limit") int limit);
+
+    @Query("select p.id as id, p.name as name, p.description as description, p.createdAt as createdAt, " +
+            "p.updatedAt as updatedAt from Project p where p.id = :id")
+    Optional<ProjectView> findViewById(@Param("id") UUID id);
+
+    @Query("select p.changeVersion from Project p where p.id = :id")
+    Optional<Long> findChangeVersionById(@Param("id") UUID id);
+
+    // change_version is only ever read through queries, never from a cached Project, so bumping it synchronizes on
+    // its own query space instead of evicting the whole projects cache region on every write. Rows are locked in id
+    // order so that two transactions bumping overlapping sets of projects cannot deadlock.
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects.change_version"))
+    @Query(value = "UPDATE projects p SET change_version = p.change_version + 1 " +
+            "FROM (SELECT id FROM projects WHERE id IN (:ids) ORDER BY id FOR UPDATE) locked " +
+            "WHERE p.id = locked.id", nativeQuery = true)
+    int incrementChangeVersions(@Param("ids") Collection<UUID> ids);
+
+    // Native, so that the membership of a user who was just soft-deleted is still found
+    @Query(value = "SELECT project_id FROM project_users WHERE user_id = :userId", nativeQuery = true)
+    List<UUID> findIdsByUserId(@Param("userId") UUID userId);
+
+    @Transactional
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_users")
+    })
+    @Query(value = "WITH purged AS (SELECT p.id FROM projects p WHERE p.deleted = true AND p.deleted_at < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM steps s WHERE s.project_id = p.id) LIMIT :limit FOR UPDATE SKIP LOCKED), " +
+            "members AS (DELETE FROM project_users WHERE project_id IN (SELECT id FROM purged)) " +
+            "DELETE FROM projects WHERE id IN (SELECT id FROM purged)", nativeQuery = true)
+    int purgeDeletedBatch(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Query(value = "SELECT count(*) FROM projects p WHERE p.deleted = true AND p.deleted_at < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM steps s WHERE s.project_id = p.id)", nativeQuery = true)
+    long countPurgeable(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query("select p.id from Project p where p.id > :after order by p.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Limit limit);
+
+    @Query("select p.id as id, p.name as name, p.description as description from Project p where p.id = :id")
+    Optional<ProjectSummaryView> findSummaryById(@Param("id") UUID id);
+
+    @Query("select u.id as id, u.name as name, u.email as email from Project p join p.users u " +
+            "where p.id = :projectId order by u.name, u.id")
+    List<ProjectMemberView> findMembersByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("select u.id as id, u.name as name, u.email as email from Project p join p.users u " +
+            "where p.id = :projectId order by u.name, u.id")
+    Slice<ProjectMemberView> findMembersByProjectId(@Param("projectId") UUID projectId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_users"))
+    @Query(value = "INSERT INTO project_users (project_id, user_id) VALUES (:projectId, :userId) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int addUser(@Param("projectId") UUID projectId, @Param("userId") UUID userId);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_users"))
+    @Query(value = "DELETE FROM project_users WHERE project_id = :projectId AND user_id = :userId", nativeQuery = true)
+    int removeUser(@Param("projectId") UUID projectId, @Param("userId") UUID userId);
 
 }
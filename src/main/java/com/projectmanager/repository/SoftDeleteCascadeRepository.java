@@ -0,0 +1,17 @@
+package com.projectmanager.repository;
+
+import com.projectmanager.entity.SoftDeleteCascade;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SoftDeleteCascadeRepository extends JpaRepository<SoftDeleteCascade, UUID> {
+
+    @Query(value = "SELECT * FROM soft_delete_cascades ORDER BY deleted_at LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<SoftDeleteCascade> findNextForUpdate();
+
+}
@@ -1,13 +1,61 @@
 package com.projectmanager.repository;
 
 import com.projectmanager.entity.Step;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import com.projectmanager.repository.projection.ResourceVersionView;
+import com.projectmanager.repository.projection.StepDetailView;
+import com.projectmanager.repository.projection.StepView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface StepRepository extends JpaRepository<Step, UUID>, JpaSpecificationExecutor<Step> {
+public interface StepRepository extends BaseRepository<Step, UUID> {
+
+    @EntityGraph(Step.WITH_PROJECT)
+    List<Step> findAllWithProjectByIdIn(Collection<UUID> ids);
+
+    @Query("select s.id as id, s.name as name, s.createdAt as createdAt, s.updatedAt as updatedAt from Step s " +
+            "where s.project.id = :projectId order by s.createdAt, s.id")
+    List<StepView> findViewsByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("select s.id as id, s.name as name, s.createdAt as createdAt, s.updatedAt as updatedAt, " +
+            "s.project.id as projectId from Step s where s.id = :id")
+    Optional<StepDetailView> findDetailById(@Param("id") UUID id);
+
+    @Query("select s.project.id as projectId, s.updatedAt as updatedAt from Step s where s.id = :id")
+    Optional<ResourceVersionView> findVersionById(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "steps"))
+    @Query(value = "DELETE FROM steps WHERE id IN (SELECT s.id FROM steps s WHERE s.deleted = true AND s.deleted_at < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM tasks t WHERE t.step_id = s.id) LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int purgeDeletedBatch(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Query(value = "SELECT count(*) FROM steps s WHERE s.deleted = true AND s.deleted_at < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM tasks t WHERE t.step_id = s.id)", nativeQuery = true)
+    long countPurgeable(@Param("cutoff") LocalDateTime cutoff);
+
+    // Native so that it still resolves steps that are already soft deleted
+    @Query(value = "SELECT project_id FROM steps WHERE id = :id", nativeQuery = true)
+    Optional<UUID> findProjectIdIncludingDeleted(@Param("id") UUID id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "steps"))
+    @Query(value = "UPDATE steps SET deleted = true, deleted_at = :deletedAt, version = version + 1 " +
+            "WHERE project_id = :projectId AND deleted = false", nativeQuery = true)
+    int softDeleteByProjectId(@Param("projectId") UUID projectId, @Param("deletedAt") LocalDateTime deletedAt);
 
 }
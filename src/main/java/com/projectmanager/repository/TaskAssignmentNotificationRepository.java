@@ -0,0 +1,24 @@
+package com.projectmanager.repository;
+
+import com.projectmanager.entity.TaskAssignmentNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskAssignmentNotificationRepository extends JpaRepository<TaskAssignmentNotification, UUID> {
+
+    @Query("select n.recipient from TaskAssignmentNotification n group by n.recipient " +
+            "having min(n.createdAt) <= :windowStart or count(n) >= :threshold")
+    List<String> findRecipientsDue(@Param("windowStart") LocalDateTime windowStart, @Param("threshold") long threshold);
+
+    @Query(value = "SELECT * FROM task_assignment_notifications WHERE recipient = :recipient " +
+            "ORDER BY created_at FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<TaskAssignmentNotification> findByRecipientForUpdate(@Param("recipient") String recipient);
+
+}
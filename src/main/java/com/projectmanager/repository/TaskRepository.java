@@ -1,13 +1,118 @@
 package com.projectmanager.repository;
 
 import com.projectmanager.entity.Task;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import com.projectmanager.repository.projection.ResourceVersionView;
+import com.projectmanager.repository.projection.TaskDetailView;
+import com.projectmanager.repository.projection.TaskStateView;
+import com.projectmanager.repository.projection.TaskView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends BaseRepository<Task, UUID> {
+
+    @EntityGraph(Task.WITH_STEP_AND_PROJECT)
+    Optional<Task> findWithStepById(UUID id);
+
+    @EntityGraph(Task.WITH_STEP_AND_PROJECT)
+    List<Task> findAllWithStepByIdIn(Collection<UUID> ids);
+
+    @Query("select t.id as id, t.title as title, t.description as description, a.id as assignedToId, s.id as stepId, " +
+            "t.status as status, t.createdAt as createdAt, t.updatedAt as updatedAt " +
+            "from Task t join t.step s left join t.assignedTo a where s.project.id = :projectId order by t.createdAt, t.id")
+    List<TaskView> findViewsByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("select t.id as id, t.title as title, t.description as description, a.id as assignedToId, s.id as stepId, " +
+            "t.status as status, t.createdAt as createdAt, t.updatedAt as updatedAt, s.project.id as projectId " +
+            "from Task t join t.step s left join t.assignedTo a where t.id = :id")
+    Optional<TaskDetailView> findDetailById(@Param("id") UUID id);
+
+    @Query("select s.project.id as projectId, t.updatedAt as updatedAt from Task t join t.step s where t.id = :id")
+    Optional<ResourceVersionView> findVersionById(@Param("id") UUID id);
+
+    @Query("select s.project.id as projectId, t.status as status from Task t join t.step s where t.id = :id")
+    Optional<TaskStateView> findStateById(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = "DELETE FROM tasks WHERE id IN (SELECT id FROM tasks WHERE deleted = true AND deleted_at < :cutoff " +
+            "LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int purgeDeletedBatch(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Query(value = "SELECT count(*) FROM tasks WHERE deleted = true AND deleted_at < :cutoff", nativeQuery = true)
+    long countPurgeable(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = "UPDATE tasks SET deleted = true, deleted_at = :deletedAt, version = version + 1 WHERE id IN (" +
+            "SELECT t.id FROM tasks t JOIN steps s ON s.id = t.step_id WHERE s.project_id = :projectId AND t.deleted = false " +
+            "LIMIT :limit)", nativeQuery = true)
+    int softDeleteBatchByProjectId(@Param("projectId") UUID projectId, @Param("deletedAt") LocalDateTime deletedAt,
+                                   @Param("limit") int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = "UPDATE tasks SET deleted = true, deleted_at = :deletedAt, version = version + 1 WHERE id IN (" +
+            "SELECT id FROM tasks WHERE step_id = :stepId AND deleted = false LIMIT :limit)", nativeQuery = true)
+    int softDeleteBatchByStepId(@Param("stepId") UUID stepId, @Param("deletedAt") LocalDateTime deletedAt,
+                                @Param("limit") int limit);
+
+    /**
+     * Moves the task to the next status only if it is still in the expected one, returning the updated row,
+     * or nothing when another request changed the status first or the task was deleted. {@code @Modifying} only
+     * allows an update count as result, so the update runs as a result-set query instead: the hints flush pending
+     * changes first and declare the tasks table as its query space. The returned row must not already be managed
+     * in the persistence context, otherwise Hibernate hands back the stale managed instance.
+     */
+    @Transactional
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "ALWAYS"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks")
+    })
+    @Query(value = "UPDATE tasks SET status = :nextStatus, updated_at = :now, version = version + 1 " +
+            "WHERE id = :id AND status = :expectedStatus AND deleted = false RETURNING *", nativeQuery = true)
+    Optional<Task> transitionStatus(@Param("id") UUID id, @Param("expectedStatus") String expectedStatus,
+                                    @Param("nextStatus") String nextStatus, @Param("now") LocalDateTime now);
+
+    String SEARCH_FILTERS = "AND t.deleted = false AND s.deleted = false " +
+            "AND t.search_vector @@ websearch_to_tsquery('simple', :q) " +
+            "AND (CAST(:status AS text) IS NULL OR t.status = CAST(:status AS text)) " +
+            "AND (CAST(:stepId AS text) IS NULL OR t.step_id = CAST(:stepId AS uuid)) " +
+            "AND (CAST(:assignedTo AS text) IS NULL OR t.assigned_to = CAST(:assignedTo AS uuid)) ";
+
+    String SEARCH_COLUMNS = "SELECT t.id AS id, t.title AS title, t.description AS description, " +
+            "t.assigned_to AS \"assignedToId\", t.step_id AS \"stepId\", t.status AS status, " +
+            "t.created_at AS \"createdAt\", t.updated_at AS \"updatedAt\" ";
+
+    String SEARCH_ORDER = "ORDER BY ts_rank(t.search_vector, websearch_to_tsquery('simple', :q)) DESC, t.created_at DESC, t.id";
+
+    @Query(value = SEARCH_COLUMNS + "FROM tasks t JOIN steps s ON s.id = t.step_id " +
+            "JOIN projects p ON p.id = s.project_id AND p.deleted = false WHERE s.project_id = :projectId " +
+            SEARCH_FILTERS + SEARCH_ORDER, nativeQuery = true)
+    Slice<TaskView> searchByProjectId(@Param("projectId") UUID projectId, @Param("q") String q, @Param("status") String status,
+                                      @Param("stepId") String stepId, @Param("assignedTo") String assignedTo, Pageable pageable);
+
+    @Query(value = SEARCH_COLUMNS + "FROM tasks t JOIN steps s ON s.id = t.step_id " +
+            "JOIN projects p ON p.id = s.project_id AND p.deleted = false " +
+            "WHERE s.project_id IN (SELECT pu.project_id FROM project_users pu WHERE pu.user_id = :userId) " +
+            SEARCH_FILTERS + SEARCH_ORDER, nativeQuery = true)
+    Slice<TaskView> searchByMemberId(@Param("userId") UUID userId, @Param("q") String q, @Param("status") String status,
+                                     @Param("stepId") String stepId, @Param("assignedTo") String assignedTo, Pageable pageable);
 
 }
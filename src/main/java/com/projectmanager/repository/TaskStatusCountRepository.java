@@ -0,0 +1,66 @@
+package com.projectmanager.repository;
+
+import com.projectmanager.entity.TaskStatusCount;
+import com.projectmanager.entity.TaskStatusCountId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskStatusCountRepository extends JpaRepository<TaskStatusCount, TaskStatusCountId> {
+
+    List<TaskStatusCount> findByProjectId(UUID projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_status_counts"))
+    @Query(value = "INSERT INTO task_status_counts (step_id, status, project_id, task_count) " +
+            "VALUES (:stepId, :status, :projectId, :delta) " +
+            "ON CONFLICT (step_id, status) DO UPDATE SET task_count = task_status_counts.task_count + EXCLUDED.task_count",
+            nativeQuery = true)
+    int increment(@Param("projectId") UUID projectId, @Param("stepId") UUID stepId, @Param("status") String status,
+                  @Param("delta") long delta);
+
+    @Query(value = "SELECT step_id FROM task_status_counts WHERE project_id = :projectId FOR UPDATE", nativeQuery = true)
+    List<UUID> lockByProjectId(@Param("projectId") UUID projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_status_counts"))
+    @Query(value = "INSERT INTO task_status_counts (step_id, status, project_id, task_count) " +
+            "SELECT c.step_id, c.status, c.project_id, count(*) FROM (" +
+            "SELECT t.step_id, t.status, s.project_id FROM tasks t JOIN steps s ON s.id = t.step_id " +
+            "WHERE s.project_id = :projectId AND s.deleted = false AND t.deleted = false AND t.status IS NOT NULL " +
+            "UNION ALL SELECT a.step_id, a.status, a.project_id FROM archived_tasks a JOIN steps s ON s.id = a.step_id " +
+            "WHERE a.project_id = :projectId AND s.deleted = false) c " +
+            "GROUP BY c.step_id, c.status, c.project_id " +
+            "ON CONFLICT (step_id, status) DO UPDATE SET task_count = EXCLUDED.task_count " +
+            "WHERE task_status_counts.task_count <> EXCLUDED.task_count", nativeQuery = true)
+    int reconcileByProjectId(@Param("projectId") UUID projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_status_counts"))
+    @Query(value = "DELETE FROM task_status_counts c WHERE c.project_id = :projectId AND NOT EXISTS (" +
+            "SELECT 1 FROM tasks t JOIN steps s ON s.id = t.step_id WHERE t.step_id = c.step_id AND t.status = c.status " +
+            "AND s.deleted = false AND t.deleted = false) AND NOT EXISTS (" +
+            "SELECT 1 FROM archived_tasks a JOIN steps s ON s.id = a.step_id WHERE a.step_id = c.step_id AND a.status = c.status " +
+            "AND s.deleted = false)", nativeQuery = true)
+    int deleteStaleByProjectId(@Param("projectId") UUID projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_status_counts"))
+    @Query(value = "DELETE FROM task_status_counts WHERE step_id = :stepId", nativeQuery = true)
+    int deleteByStepId(@Param("stepId") UUID stepId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_status_counts"))
+    @Query(value = "DELETE FROM task_status_counts WHERE project_id = :projectId", nativeQuery = true)
+    int deleteByProjectId(@Param("projectId") UUID projectId);
+
+}
@@ -1,18 +1,61 @@
 package com.projectmanager.repository;
 
 import com.projectmanager.entity.User;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import com.projectmanager.repository.projection.UserView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User> {
+public interface UserRepository extends BaseRepository<User, UUID> {
 
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
+    @Query("select u.id as id, u.email as email, u.name as name, u.role as role, u.emailVerified as emailVerified, " +
+            "u.createdAt as createdAt, u.updatedAt as updatedAt from User u where u.id = :id")
+    Optional<UserView> findViewById(@Param("id") UUID id);
+
+    /**
+     * Hard-deletes a batch of users soft-deleted before the cutoff, first clearing the rows that reference them:
+     * task and archived task assignments are unset, project memberships and refresh tokens are removed. Projects
+     * whose tasks lose their assignee get their change version bumped.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "archived_tasks"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_users"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "refresh_tokens"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects.change_version")
+    })
+    @Query(value = "WITH purged AS (SELECT u.id FROM users u WHERE u.deleted = true AND u.deleted_at < :cutoff " +
+            "LIMIT :limit FOR UPDATE SKIP LOCKED), " +
+            "unassigned AS (UPDATE tasks SET assigned_to = NULL, version = version + 1 WHERE assigned_to IN (SELECT id FROM purged) " +
+            "RETURNING step_id), " +
+            "unassignedArchived AS (UPDATE archived_tasks SET assigned_to = NULL WHERE assigned_to IN (SELECT id FROM purged) " +
+            "RETURNING project_id), " +
+            "bumped AS (UPDATE projects SET change_version = change_version + 1 " +
+            "WHERE id IN (SELECT s.project_id FROM steps s WHERE s.id IN (SELECT step_id FROM unassigned)) " +
+            "OR id IN (SELECT project_id FROM unassignedArchived)), " +
+            "members AS (DELETE FROM project_users WHERE user_id IN (SELECT id FROM purged)), " +
+            "tokens AS (DELETE FROM refresh_tokens WHERE user_id IN (SELECT id FROM purged)) " +
+            "DELETE FROM users WHERE id IN (SELECT id FROM purged)", nativeQuery = true)
+    int purgeDeletedBatch(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Query(value = "SELECT count(*) FROM users WHERE deleted = true AND deleted_at < :cutoff", nativeQuery = true)
+    long countPurgeable(@Param("cutoff") LocalDateTime cutoff);
+
 }
@@ -0,0 +1,13 @@
+package com.projectmanager.repository.projection;
+
+import java.util.UUID;
+
+public interface ProjectSummaryView {
+
+    UUID getId();
+
+    String getName();
+
+    String getDescription();
+
+}
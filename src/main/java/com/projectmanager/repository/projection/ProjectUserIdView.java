@@ -0,0 +1,13 @@
+package com.projectmanager.repository.projection;
+
+import java.util.UUID;
+
+public interface ProjectUserIdView {
+
+    UUID getProjectId();
+
+    UUID getUserId();
+
+    long getMemberCount();
+
+}
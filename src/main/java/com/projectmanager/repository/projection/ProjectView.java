@@ -0,0 +1,18 @@
+package com.projectmanager.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ProjectView {
+
+    UUID getId();
+
+    String getName();
+
+    String getDescription();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+}
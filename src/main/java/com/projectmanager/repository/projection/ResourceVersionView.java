@@ -0,0 +1,12 @@
+package com.projectmanager.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ResourceVersionView {
+
+    UUID getProjectId();
+
+    LocalDateTime getUpdatedAt();
+
+}
@@ -0,0 +1,9 @@
+package com.projectmanager.repository.projection;
+
+import java.util.UUID;
+
+public interface TaskDetailView extends TaskView {
+
+    UUID getProjectId();
+
+}
@@ -0,0 +1,13 @@
+package com.projectmanager.repository.projection;
+
+import com.projectmanager.entity.TaskStatus;
+
+import java.util.UUID;
+
+public interface TaskStateView {
+
+    UUID getProjectId();
+
+    TaskStatus getStatus();
+
+}
@@ -0,0 +1,26 @@
+package com.projectmanager.repository.projection;
+
+import com.projectmanager.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface TaskView {
+
+    UUID getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    UUID getAssignedToId();
+
+    UUID getStepId();
+
+    TaskStatus getStatus();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+}
@@ -0,0 +1,24 @@
+package com.projectmanager.repository.projection;
+
+import com.projectmanager.entity.Role;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface UserView {
+
+    UUID getId();
+
+    String getEmail();
+
+    String getName();
+
+    Role getRole();
+
+    boolean isEmailVerified();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+}
@@ -0,0 +1,68 @@
+package com.projectmanager.security;
+
+import com.projectmanager.entity.OneTimeToken;
+import com.projectmanager.entity.TokenPurpose;
+import com.projectmanager.repository.OneTimeTokenRepository;
+import com.projectmanager.util.TokenHashUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "app.token-store.type", havingValue = "database", matchIfMissing = true)
+public class DatabaseTokenStore implements TokenStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseTokenStore.class);
+
+    private final OneTimeTokenRepository oneTimeTokenRepository;
+
+    public DatabaseTokenStore(OneTimeTokenRepository oneTimeTokenRepository) {
+        this.oneTimeTokenRepository = oneTimeTokenRepository;
+    }
+
+    @Override
+    @Transactional
+    public void save(TokenPurpose purpose, String token, String subject, Duration timeToLive) {
+        OneTimeToken oneTimeToken = OneTimeToken.builder()
+                .tokenHash(TokenHashUtil.sha256Hex(token))
+                .purpose(purpose)
+                .subject(subject)
+                .expiresAt(LocalDateTime.now().plus(timeToLive))
+                .build();
+
+        oneTimeTokenRepository.save(oneTimeToken);
+    }
+
+    @Override
+    @Transactional
+    public Optional<String> consume(TokenPurpose purpose, String token) {
+        String tokenHash = TokenHashUtil.sha256Hex(token);
+        Optional<OneTimeToken> stored = oneTimeTokenRepository.findById(tokenHash)
+                .filter(oneTimeToken -> oneTimeToken.getPurpose() == purpose);
+        if (stored.isEmpty() || oneTimeTokenRepository.deleteByTokenHashAndPurpose(tokenHash, purpose) == 0) {
+            return Optional.empty();
+        }
+        if (stored.get().getExpiresAt().isBefore(LocalDateTime.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(stored.get().getSubject());
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.token-store.sweep-interval:60000}")
+    public void purgeExpired() {
+        int deleted = oneTimeTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.info("Purged {} expired one-time tokens", deleted);
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.projectmanager.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.projectmanager.entity.TokenPurpose;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "app.token-store.type", havingValue = "memory")
+public class InMemoryTokenStore implements TokenStore {
+
+    private record StoredToken(String subject, Instant expiresAt) {
+    }
+
+    private final Cache<String, StoredToken> tokens;
+
+    public InMemoryTokenStore(@Value("${app.token-store.maximum-size:100000}") long maximumSize) {
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, StoredToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, StoredToken value, long currentTime) {
+                        return remainingNanos(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, StoredToken value, long currentTime, long currentDuration) {
+                        return remainingNanos(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, StoredToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public void save(TokenPurpose purpose, String token, String subject, Duration timeToLive) {
+        tokens.put(key(purpose, token), new StoredToken(subject, Instant.now().plus(timeToLive)));
+    }
+
+    @Override
+    public Optional<String> consume(TokenPurpose purpose, String token) {
+        StoredToken stored = tokens.asMap().remove(key(purpose, token));
+        if (stored == null || stored.expiresAt().isBefore(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(stored.subject());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.token-store.sweep-interval:60000}")
+    public void purgeExpired() {
+        tokens.cleanUp();
+    }
+
+    private static String key(TokenPurpose purpose, String token) {
+        return purpose.name() + ":" + token;
+    }
+
+    private static long remainingNanos(StoredToken value) {
+        return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+    }
+
+}
@@ -27,12 +27,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         String token = getJwtFromRequest(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            var userId = jwtTokenProvider.getUserIdFromToken(token);
-            var role = jwtTokenProvider.getRoleFromToken(token);
-            var authentication = new UsernamePasswordAuthenticationToken(userId, null, role.getAuthorities());
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (token != null) {
+            jwtTokenProvider.authenticate(token).ifPresent(principal -> {
+                var authentication = new UsernamePasswordAuthenticationToken(principal.userId(), null, principal.role().getAuthorities());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            });
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,9 @@
+package com.projectmanager.security;
+
+import com.projectmanager.entity.Role;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record JwtPrincipal(UUID userId, Role role, Instant expiresAt) {
+}
@@ -1,21 +1,35 @@
 package com.projectmanager.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.projectmanager.entity.Role;
+import com.projectmanager.util.TokenHashUtil;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -25,8 +39,50 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Value("${jwt.verified-cache.enabled:true}")
+    private boolean verifiedCacheEnabled;
+
+    @Value("${jwt.verified-cache.maximum-size:10000}")
+    private long verifiedCacheMaximumSize;
+
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    private Cache<String, JwtPrincipal> verifiedTokens;
+
+    public JwtTokenProvider(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+
+        if (verifiedCacheEnabled) {
+            verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(verifiedCacheMaximumSize)
+                    .expireAfter(new Expiry<String, JwtPrincipal>() {
+                        @Override
+                        public long expireAfterCreate(String key, JwtPrincipal value, long currentTime) {
+                            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+                        }
+
+                        @Override
+                        public long expireAfterUpdate(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+                            return currentDuration;
+                        }
+
+                        @Override
+                        public long expireAfterRead(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+                            return currentDuration;
+                        }
+                    })
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtVerifiedTokens");
+        }
     }
 
     public String generateAccessToken(UUID userId, Role role) {
@@ -39,47 +95,50 @@ public class JwtTokenProvider {
                 .subject(userId.toString())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public String generateRefreshToken(UUID userId) {
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(userId.toString())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
+    public Optional<JwtPrincipal> authenticate(String token) {
+        String cacheKey = verifiedTokens != null ? TokenHashUtil.sha256Hex(token) : null;
+        if (cacheKey != null) {
+            JwtPrincipal cached = verifiedTokens.getIfPresent(cacheKey);
+            if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+                return Optional.of(cached);
+            }
+        }
 
-    public boolean validateToken(String token) {
+        JwtPrincipal principal;
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            Claims claims = getClaimsFromToken(token);
+            Object role = claims.get("role");
+            if (role == null) {
+                return Optional.empty();
+            }
+            principal = new JwtPrincipal(UUID.fromString(claims.getSubject()), Role.valueOf(role.toString()),
+                    claims.getExpiration().toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
-    }
 
-    public UUID getUserIdFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return UUID.fromString(claims.getSubject());
+        if (cacheKey != null) {
+            verifiedTokens.put(cacheKey, principal);
+        }
+        return Optional.of(principal);
     }
 
-    public Role getRoleFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return Role.valueOf((String) claims.get("role"));
+    public Claims getClaimsFromToken(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
 }
@@ -0,0 +1,58 @@
+package com.projectmanager.security;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanager.repository.ProjectRepository;
+import com.projectmanager.util.CacheUtil;
+import com.projectmanager.util.TransactionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+public class ProjectMembershipCache {
+
+    private final ProjectRepository projectRepository;
+    private final AsyncCache<UUID, Set<UUID>> membersByProject;
+
+    public ProjectMembershipCache(ProjectRepository projectRepository, MeterRegistry meterRegistry,
+                                  @Value("${app.membership-cache.maximum-size:10000}") long maximumSize,
+                                  @Value("${app.membership-cache.expire-after-write:300000}") long expireAfterWrite) {
+        this.projectRepository = projectRepository;
+        this.membersByProject = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWrite))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, membersByProject.synchronous(), "projectMembership");
+    }
+
+    public boolean isMember(UUID projectId, UUID userId) {
+        if (projectId == null || userId == null) {
+            return false;
+        }
+        return CacheUtil.get(membersByProject, projectId, this::loadMemberIds).contains(userId);
+    }
+
+    /**
+     * Drops the project's members once the membership change has committed. Invalidating earlier would let a
+     * concurrent request reload the old members from the still committed state and cache them until they expire.
+     */
+    public void invalidate(UUID projectId) {
+        TransactionUtil.afterCommit(() -> membersByProject.synchronous().invalidate(projectId));
+    }
+
+    public void invalidateAll() {
+        TransactionUtil.afterCommit(() -> membersByProject.synchronous().invalidateAll());
+    }
+
+    private Set<UUID> loadMemberIds(UUID projectId) {
+        return Set.copyOf(projectRepository.findUserIdsByProjectId(projectId));
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.projectmanager.security;
+
+import com.projectmanager.entity.TokenPurpose;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface TokenStore {
+
+    void save(TokenPurpose purpose, String token, String subject, Duration timeToLive);
+
+    Optional<String> consume(TokenPurpose purpose, String token);
+
+    void purgeExpired();
+
+}
@@ -6,20 +6,25 @@ import com.projectmanager.dto.auth.PasswordResetRequestDto;
 import com.projectmanager.dto.auth.RefreshTokenDto;
 import com.projectmanager.dto.auth.TokenResponseDto;
 import com.projectmanager.entity.RefreshToken;
+import com.projectmanager.entity.TokenPurpose;
 import com.projectmanager.entity.User;
 import com.projectmanager.exception.NotFoundException;
 import com.projectmanager.exception.UnauthorizedException;
 import com.projectmanager.repository.RefreshTokenRepository;
 import com.projectmanager.security.JwtTokenProvider;
+import com.projectmanager.security.TokenStore;
 import com.projectmanager.util.RandomUtil;
+import com.projectmanager.util.TokenHashUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -32,18 +37,26 @@ public class AuthService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
-    private final Map<String, String> resetTokenStore = new HashMap<>(); // Temporary in-memory store for reset tokens
+    private final TokenStore tokenStore;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.tokens.password-reset-ttl:3600000}")
+    private long passwordResetTokenTtl;
 
     public AuthService(UserService userService, JwtTokenProvider jwtTokenProvider, 
                        RefreshTokenRepository refreshTokenRepository, PasswordEncoder passwordEncoder, 
-                       EmailService emailService) {
+                       EmailService emailService, TokenStore tokenStore, TransactionTemplate transactionTemplate) {
         this.userService = userService;
         this.jwtTokenProvider = jwtTokenProvider;
         this.refreshTokenRepository = refreshTokenRepository;
         this.passwordEncoder = passwordEncoder;
         this.emailService = emailService;
+        this.tokenStore = tokenStore;
+        this.transactionTemplate = transactionTemplate;
     }
 
+    // Not transactional: the password check runs without a connection, and the refresh token is saved in the
+    // repository's own short transaction
     public TokenResponseDto login(LoginDto dto) {
         User user = userService.getUserEntityByEmail(dto.getEmail());
 
@@ -60,7 +73,7 @@ public class AuthService {
 
         RefreshToken refreshTokenEntity = RefreshToken.builder()
                 .id(UUID.randomUUID())
-                .token(refreshToken)
+                .tokenHash(TokenHashUtil.sha256Hex(refreshToken))
                 .user(user)
                 .revoked(false)
                 .expiresAt(LocalDateTime.now().plusDays(7))
@@ -75,8 +88,9 @@ public class AuthService {
         return response;
     }
 
+    @Transactional
     public TokenResponseDto refreshToken(RefreshTokenDto dto) {
-        RefreshToken refreshTokenEntity = refreshTokenRepository.findByToken(dto.getRefreshToken())
+        RefreshToken refreshTokenEntity = refreshTokenRepository.findByTokenHash(TokenHashUtil.sha256Hex(dto.getRefreshToken()))
                 .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
 
         if (refreshTokenEntity.isRevoked() || refreshTokenEntity.getExpiresAt().isBefore(LocalDateTime.now())) {
@@ -87,12 +101,11 @@ public class AuthService {
         String newAccessToken = jwtTokenProvider.generateAccessToken(user.getId(), user.getRole());
         String newRefreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
 
-        refreshTokenEntity.setRevoked(true);
-        refreshTokenRepository.save(refreshTokenEntity);
+        revoke(refreshTokenEntity);
 
         RefreshToken newRefreshTokenEntity = RefreshToken.builder()
                 .id(UUID.randomUUID())
-                .token(newRefreshToken)
+                .tokenHash(TokenHashUtil.sha256Hex(newRefreshToken))
                 .user(user)
                 .revoked(false)
                 .expiresAt(LocalDateTime.now().plusDays(7))
@@ -107,31 +120,41 @@ public class AuthService {
         return response;
     }
 
+    @Transactional
     public void logout(String refreshToken) {
-        RefreshToken refreshTokenEntity = refreshTokenRepository.findByToken(refreshToken)
+        RefreshToken refreshTokenEntity = refreshTokenRepository.findByTokenHash(TokenHashUtil.sha256Hex(refreshToken))
                 .orElseThrow(() -> new NotFoundException("Refresh token not found"));
 
-        refreshTokenEntity.setRevoked(true);
-        refreshTokenRepository.save(refreshTokenEntity);
+        revoke(refreshTokenEntity);
         logger.info("User logged out, refresh token revoked");
     }
 
-    public void requestPasswordReset(PasswordResetRequestDto dto, String baseUrl) throws Exception {
+    @Transactional
+    public void requestPasswordReset(PasswordResetRequestDto dto, String baseUrl) {
         User user = userService.getUserEntityByEmail(dto.getEmail());
         String resetToken = RandomUtil.generateRandomString(32);
-        resetTokenStore.put(resetToken, user.getEmail()); // Store token temporarily
+        tokenStore.save(TokenPurpose.PASSWORD_RESET, resetToken, user.getEmail(), Duration.ofMillis(passwordResetTokenTtl));
         emailService.sendPasswordResetEmail(user.getEmail(), resetToken, baseUrl);
-        logger.info("Password reset email sent to: {}", user.getEmail());
+        logger.info("Password reset email queued for: {}", user.getEmail());
     }
 
+    // Hashes before the transaction that consumes the token and stores the hash, so BCrypt never holds a connection
     public void resetPassword(PasswordResetDto dto) {
-        String email = resetTokenStore.get(dto.getToken());
-        if (email == null) {
-            throw new NotFoundException("Invalid or expired reset token");
-        }
-        User user = userService.getUserEntityByEmail(email);
-        userService.updateUserPassword(user.getId(), dto.getNewPassword());
-        logger.info("Password reset for user ID: {}", user.getId());
-        resetTokenStore.remove(dto.getToken()); // Remove token after use
+        String passwordHash = userService.encodePassword(dto.getNewPassword());
+        UUID userId = transactionTemplate.execute(status -> {
+            String email = tokenStore.consume(TokenPurpose.PASSWORD_RESET, dto.getToken())
+                    .orElseThrow(() -> new NotFoundException("Invalid or expired reset token"));
+            User user = userService.getUserEntityByEmail(email);
+            userService.updateUserPasswordHash(user.getId(), passwordHash);
+            return user.getId();
+        });
+        logger.info("Password reset for user ID: {}", userId);
+    }
+
+    // Revoked tokens are expired immediately so the purge job can remove them through the expiresAt index
+    private void revoke(RefreshToken refreshTokenEntity) {
+        refreshTokenEntity.setRevoked(true);
+        refreshTokenEntity.setExpiresAt(LocalDateTime.now());
+        refreshTokenRepository.save(refreshTokenEntity);
     }
 }
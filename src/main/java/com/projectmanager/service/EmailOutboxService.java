@@ -0,0 +1,101 @@
+package com.projectmanager.service;
+
+import com.projectmanager.entity.EmailOutboxMessage;
+import com.projectmanager.entity.EmailStatus;
+import com.projectmanager.repository.EmailOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class EmailOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxService.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    @Value("${app.email.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.email.outbox.retry-delay:30000}")
+    private long retryDelay;
+
+    @Value("${app.email.outbox.lease:300000}")
+    private long lease;
+
+    public EmailOutboxService(EmailOutboxRepository emailOutboxRepository) {
+        this.emailOutboxRepository = emailOutboxRepository;
+    }
+
+    @Transactional
+    public void enqueue(String recipient, String subject, String body) {
+        EmailOutboxMessage message = EmailOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .status(EmailStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        emailOutboxRepository.save(message);
+        logger.info("Email queued for: {}", recipient);
+    }
+
+    @Transactional
+    public List<EmailOutboxMessage> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxMessage> due = emailOutboxRepository.findDueForUpdate(now, limit);
+        due.forEach(message -> message.setNextAttemptAt(now.plus(Duration.ofMillis(lease))));
+        return due;
+    }
+
+    @Transactional
+    public void recordResults(Collection<UUID> sentIds, Map<UUID, String> failures) {
+        LocalDateTime now = LocalDateTime.now();
+
+        emailOutboxRepository.findAllById(sentIds).forEach(message -> {
+            message.setAttempts(message.getAttempts() + 1);
+            message.setStatus(EmailStatus.SENT);
+            message.setSentAt(now);
+            message.setLastError(null);
+        });
+
+        emailOutboxRepository.findAllById(failures.keySet()).forEach(message -> {
+            int attempts = message.getAttempts() + 1;
+            message.setAttempts(attempts);
+            message.setLastError(truncate(failures.get(message.getId())));
+            if (attempts >= maxAttempts) {
+                message.setStatus(EmailStatus.FAILED);
+                logger.error("Email to {} failed permanently after {} attempts", message.getRecipient(), attempts);
+            } else {
+                long backoff = retryDelay << Math.min(attempts - 1, 16);
+                message.setNextAttemptAt(now.plus(Duration.ofMillis(backoff)));
+            }
+        });
+    }
+
+    public long countPending() {
+        return emailOutboxRepository.countByStatus(EmailStatus.PENDING);
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+}
@@ -1,64 +1,57 @@
 package com.projectmanager.service;
 
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import com.projectmanager.entity.TaskAssignmentNotification;
 import org.springframework.stereotype.Service;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import java.util.List;
 
 @Service
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private final EmailOutboxService emailOutboxService;
 
-    public EmailService(JavaMailSender mailSender) {
-        this.mailSender = mailSender;
+    public EmailService(EmailOutboxService emailOutboxService) {
+        this.emailOutboxService = emailOutboxService;
     }
 
-    public void sendVerificationEmail(String to, String token, String baseUrl) throws MessagingException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true);
-
-        helper.setTo(to);
-        helper.setSubject("Email Verification - Project Manager");
+    public void sendVerificationEmail(String to, String token, String baseUrl) {
         String verificationLink = baseUrl + "/api/auth/verify?token=" + token;
         String htmlContent = "<p>Please verify your email by clicking on the following link:</p>" +
                 "<p><a href='" + verificationLink + "'>Verify Email</a></p>" +
                 "<p>If you did not register for Project Manager, please ignore this email.</p>";
-        helper.setText(htmlContent, true);
 
-        mailSender.send(message);
+        emailOutboxService.enqueue(to, "Email Verification - Project Manager", htmlContent);
     }
 
-    public void sendTaskAssignmentEmail(String to, String taskTitle, String projectName) throws MessagingException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true);
-
-        helper.setTo(to);
-        helper.setSubject("Task Assigned - Project Manager");
-        String htmlContent = "<p>You have been assigned a new task:</p>" +
-                "<p><strong>Task:</strong> " + taskTitle + "</p>" +
-                "<p><strong>Project:</strong> " + projectName + "</p>" +
-                "<p>Please log in to Project Manager to view details.</p>";
-        helper.setText(htmlContent, true);
-
-        mailSender.send(message);
+    public void sendTaskAssignmentDigestEmail(String to, List<TaskAssignmentNotification> assignments) {
+        if (assignments.size() == 1) {
+            TaskAssignmentNotification assignment = assignments.get(0);
+            String htmlContent = "<p>You have been assigned a new task:</p>" +
+                    "<p><strong>Task:</strong> " + assignment.getTaskTitle() + "</p>" +
+                    "<p><strong>Project:</strong> " + assignment.getProjectName() + "</p>" +
+                    "<p>Please log in to Project Manager to view details.</p>";
+
+            emailOutboxService.enqueue(to, "Task Assigned - Project Manager", htmlContent);
+            return;
+        }
+
+        StringBuilder htmlContent = new StringBuilder("<p>You have been assigned " + assignments.size() + " new tasks:</p><ul>");
+        for (TaskAssignmentNotification assignment : assignments) {
+            htmlContent.append("<li><strong>").append(assignment.getTaskTitle()).append("</strong> (")
+                    .append(assignment.getProjectName()).append(")</li>");
+        }
+        htmlContent.append("</ul><p>Please log in to Project Manager to view details.</p>");
+
+        emailOutboxService.enqueue(to, assignments.size() + " Tasks Assigned - Project Manager", htmlContent.toString());
     }
 
-    public void sendPasswordResetEmail(String to, String token, String baseUrl) throws MessagingException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true);
-
-        helper.setTo(to);
-        helper.setSubject("Password Reset - Project Manager");
+    public void sendPasswordResetEmail(String to, String token, String baseUrl) {
         String resetLink = baseUrl + "/api/auth/reset-password?token=" + token;
         String htmlContent = "<p>You requested a password reset for your Project Manager account:</p>" +
                 "<p><a href='" + resetLink + "'>Reset Password</a></p>" +
                 "<p>If you did not request this, please ignore this email.</p>";
-        helper.setText(htmlContent, true);
 
-        mailSender.send(message);
+        emailOutboxService.enqueue(to, "Password Reset - Project Manager", htmlContent);
     }
 
 }
@@ -0,0 +1,66 @@
+package com.projectmanager.service;
+
+import com.projectmanager.entity.TaskAssignmentNotification;
+import com.projectmanager.repository.TaskAssignmentNotificationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class NotificationDigestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDigestService.class);
+
+    private final TaskAssignmentNotificationRepository notificationRepository;
+    private final EmailService emailService;
+
+    @Value("${app.notifications.digest.window:300000}")
+    private long window;
+
+    @Value("${app.notifications.digest.threshold:20}")
+    private long threshold;
+
+    public NotificationDigestService(TaskAssignmentNotificationRepository notificationRepository, EmailService emailService) {
+        this.notificationRepository = notificationRepository;
+        this.emailService = emailService;
+    }
+
+    @Transactional
+    public void recordTaskAssignment(String recipient, UUID taskId, String taskTitle, String projectName) {
+        TaskAssignmentNotification notification = TaskAssignmentNotification.builder()
+                .id(UUID.randomUUID())
+                .recipient(recipient)
+                .taskId(taskId)
+                .taskTitle(taskTitle)
+                .projectName(projectName)
+                .build();
+
+        notificationRepository.save(notification);
+    }
+
+    public List<String> findRecipientsDue() {
+        LocalDateTime windowStart = LocalDateTime.now().minus(Duration.ofMillis(window));
+        return notificationRepository.findRecipientsDue(windowStart, threshold);
+    }
+
+    @Transactional
+    public int flushRecipient(String recipient) {
+        List<TaskAssignmentNotification> notifications = notificationRepository.findByRecipientForUpdate(recipient);
+        if (notifications.isEmpty()) {
+            return 0;
+        }
+
+        emailService.sendTaskAssignmentDigestEmail(recipient, notifications);
+        notificationRepository.deleteAllInBatch(notifications);
+        logger.info("Task assignment digest with {} tasks queued for: {}", notifications.size(), recipient);
+        return notifications.size();
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.projectmanager.service;
+
+import com.projectmanager.dto.project.ProjectBoardDto;
+import com.projectmanager.dto.project.ProjectBoardStepDto;
+import com.projectmanager.dto.step.StepReadDto;
+import com.projectmanager.dto.task.TaskReadDto;
+import com.projectmanager.exception.NotFoundException;
+import com.projectmanager.mapper.ProjectMapper;
+import com.projectmanager.mapper.StepMapper;
+import com.projectmanager.mapper.TaskMapper;
+import com.projectmanager.repository.ProjectRepository;
+import com.projectmanager.repository.StepRepository;
+import com.projectmanager.repository.TaskRepository;
+import com.projectmanager.repository.projection.StepView;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the project board from four projection queries (project, steps, tasks, members) regardless of
+ * how many steps or tasks the project has, so no entity associations are loaded along the way.
+ */
+@Service
+public class ProjectBoardService {
+
+    private final ProjectRepository projectRepository;
+    private final StepRepository stepRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectService projectService;
+    private final ProjectMapper projectMapper;
+    private final StepMapper stepMapper;
+    private final TaskMapper taskMapper;
+
+    public ProjectBoardService(ProjectRepository projectRepository, StepRepository stepRepository, TaskRepository taskRepository,
+                               ProjectService projectService, ProjectMapper projectMapper, StepMapper stepMapper, TaskMapper taskMapper) {
+        this.projectRepository = projectRepository;
+        this.stepRepository = stepRepository;
+        this.taskRepository = taskRepository;
+        this.projectService = projectService;
+        this.projectMapper = projectMapper;
+        this.stepMapper = stepMapper;
+        this.taskMapper = taskMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectBoardDto getProjectBoard(UUID projectId, UUID currentUserId) {
+        projectService.verifyMembership(projectId, currentUserId, "You are not authorized to view this project");
+
+        ProjectBoardDto board = projectRepository.findSummaryById(projectId)
+                .map(projectMapper::toBoardDto)
+                .orElseThrow(() -> new NotFoundException("Project not found with ID: " + projectId));
+
+        Map<UUID, List<TaskReadDto>> tasksByStep = taskRepository.findViewsByProjectId(projectId).stream()
+                .map(taskMapper::toReadDto)
+                .collect(Collectors.groupingBy(TaskReadDto::getStepId));
+
+        List<ProjectBoardStepDto> steps = new ArrayList<>();
+        for (StepView stepView : stepRepository.findViewsByProjectId(projectId)) {
+            steps.add(toBoardStep(stepMapper.toReadDto(stepView), tasksByStep.getOrDefault(stepView.getId(), List.of())));
+        }
+
+        board.setSteps(steps);
+        board.setMembers(projectRepository.findMembersByProjectId(projectId).stream()
+                .map(projectMapper::toMemberDto)
+                .toList());
+        return board;
+    }
+
+    private ProjectBoardStepDto toBoardStep(StepReadDto step, List<TaskReadDto> tasks) {
+        ProjectBoardStepDto boardStep = new ProjectBoardStepDto();
+        boardStep.setId(step.getId());
+        boardStep.setName(step.getName());
+        boardStep.setCreatedAt(step.getCreatedAt());
+        boardStep.setUpdatedAt(step.getUpdatedAt());
+        boardStep.setTasks(tasks);
+        return boardStep;
+    }
+
+}
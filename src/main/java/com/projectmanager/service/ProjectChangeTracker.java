@@ -0,0 +1,63 @@
+package com.projectmanager.service;
+
+import com.projectmanager.repository.ProjectRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bumps project change counters. Kept apart from ProjectService so that the services it depends on, such as
+ * UserService and SoftDeleteService, bump counters under the same locking discipline instead of through the
+ * repository directly.
+ */
+@Service
+public class ProjectChangeTracker {
+
+    private final ProjectRepository projectRepository;
+
+    public ProjectChangeTracker(ProjectRepository projectRepository) {
+        this.projectRepository = projectRepository;
+    }
+
+    /**
+     * Bumps the change counter of the given projects. The bump joins the transaction that performs the change, so
+     * readers never see the new version with the old content, but it is deferred to just before commit: every
+     * project touched by the transaction is bumped once, in a single ordered update, and the project rows stay
+     * locked only for the commit itself instead of the whole transaction.
+     */
+    public void markChanged(Collection<UUID> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            projectRepository.incrementChangeVersions(projectIds);
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof ChangeVersionBump bump) {
+                bump.projectIds.addAll(projectIds);
+                return;
+            }
+        }
+        ChangeVersionBump bump = new ChangeVersionBump();
+        bump.projectIds.addAll(projectIds);
+        TransactionSynchronizationManager.registerSynchronization(bump);
+    }
+
+    private class ChangeVersionBump implements TransactionSynchronization {
+
+        private final Set<UUID> projectIds = new HashSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            projectRepository.incrementChangeVersions(projectIds);
+        }
+
+    }
+
+}
@@ -1,6 +1,9 @@
 package com.projectmanager.service;
 
+import com.projectmanager.dto.page.CursorPageDto;
+import com.projectmanager.dto.page.PageMode;
 import com.projectmanager.dto.project.ProjectCreateDto;
+import com.projectmanager.dto.project.ProjectMemberDto;
 import com.projectmanager.dto.project.ProjectReadDto;
 import com.projectmanager.dto.project.ProjectUpdateDto;
 import com.projectmanager.entity.Project;
@@ -9,15 +12,27 @@ import com.projectmanager.exception.NotFoundException;
 import com.projectmanager.exception.UnauthorizedException;
 import com.projectmanager.mapper.ProjectMapper;
 import com.projectmanager.repository.ProjectRepository;
+import com.projectmanager.repository.projection.ProjectUserIdView;
+import com.projectmanager.repository.projection.ProjectView;
+import com.projectmanager.security.ProjectMembershipCache;
+import com.projectmanager.specification.KeysetSpecification;
 import com.projectmanager.specification.ProjectSpecification;
+import com.projectmanager.util.CursorUtil;
+import com.projectmanager.util.EtagUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -29,13 +44,27 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
     private final UserService userService;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final SoftDeleteService softDeleteService;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
+    private final ProjectChangeTracker projectChangeTracker;
 
-    public ProjectService(ProjectRepository projectRepository, ProjectMapper projectMapper, UserService userService) {
+    @Value("${app.projects.member-ids-limit:100}")
+    private int memberIdsLimit;
+
+    public ProjectService(ProjectRepository projectRepository, ProjectMapper projectMapper, UserService userService,
+                          ProjectMembershipCache projectMembershipCache, SoftDeleteService softDeleteService,
+                          SecondLevelCacheEvictor secondLevelCacheEvictor, ProjectChangeTracker projectChangeTracker) {
         this.projectRepository = projectRepository;
         this.projectMapper = projectMapper;
         this.userService = userService;
+        this.projectMembershipCache = projectMembershipCache;
+        this.softDeleteService = softDeleteService;
+        this.secondLevelCacheEvictor = secondLevelCacheEvictor;
+        this.projectChangeTracker = projectChangeTracker;
     }
 
+    @Transactional
     public ProjectReadDto createProject(ProjectCreateDto dto, UUID currentUserId) {
         Project project = projectMapper.toEntity(dto);
         project.setId(UUID.randomUUID());
@@ -47,92 +76,199 @@ public class ProjectService {
         Project savedProject = projectRepository.save(project);
         logger.info("Project created with ID: {}", savedProject.getId());
 
-        return projectMapper.toReadDto(savedProject);
+        ProjectReadDto created = projectMapper.toReadDto(savedProject);
+        created.setUserIds(new HashSet<>(List.of(currentUserId)));
+        created.setMemberCount(1);
+        return created;
     }
 
+    @Transactional
     public ProjectReadDto updateProject(UUID id, ProjectUpdateDto dto, UUID currentUserId) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Project not found with ID: " + id));
 
-        if (!project.getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId))) {
+        if (!projectMembershipCache.isMember(id, currentUserId)) {
             throw new UnauthorizedException("You are not authorized to update this project");
         }
 
         projectMapper.updateEntity(project, dto);
         Project updatedProject = projectRepository.save(project);
+        markChanged(List.of(id));
         logger.info("Project updated with ID: {}", updatedProject.getId());
 
-        return projectMapper.toReadDto(updatedProject);
+        return toReadDto(updatedProject);
     }
 
+    @Transactional
     public void deleteProject(UUID id, UUID currentUserId) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Project not found with ID: " + id));
 
-        if (!project.getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId))) {
+        if (!projectMembershipCache.isMember(id, currentUserId)) {
             throw new UnauthorizedException("You are not authorized to delete this project");
         }
 
+        LocalDateTime deletedAt = LocalDateTime.now();
         project.setDeleted(true);
+        project.setDeletedAt(deletedAt);
         projectRepository.save(project);
+        softDeleteService.cascadeProject(id, deletedAt);
+        markChanged(List.of(id));
+        secondLevelCacheEvictor.evictAfterCommit(Project.class, id);
+        projectMembershipCache.invalidate(id);
         logger.info("Project logically deleted with ID: {}", id);
     }
 
+    @Transactional(readOnly = true)
     public ProjectReadDto getProjectById(UUID id, UUID currentUserId) {
-        Project project = projectRepository.findById(id)
+        ProjectView project = projectRepository.findViewById(id)
                 .orElseThrow(() -> new NotFoundException("Project not found with ID: " + id));
 
-        if (!project.getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId))) {
+        if (!projectMembershipCache.isMember(id, currentUserId)) {
             throw new UnauthorizedException("You are not authorized to view this project");
         }
 
-        return projectMapper.toReadDto(project);
+        ProjectReadDto dto = projectMapper.toReadDto(project);
+        setMembers(List.of(dto));
+        return dto;
     }
 
-    public Page<ProjectReadDto> getAllProjects(Pageable pageable, String name, String description, UUID userId, UUID currentUserId) {
-        var spec = ProjectSpecification.hasNameLike(name)
-                .and(ProjectSpecification.hasDescriptionLike(description))
-                .and(ProjectSpecification.hasUserId(userId));
+    @Transactional(readOnly = true)
+    public Slice<ProjectReadDto> getAllProjects(Pageable pageable, PageMode mode, String name, String description,
+                                                UUID userId, UUID currentUserId) {
+        var spec = buildProjectSpecification(name, description, userId, currentUserId);
+
+        Slice<ProjectReadDto> projects = projectRepository.findAll(spec, pageable, mode, ProjectView.class)
+                .map(projectMapper::toReadDto);
+        setMembers(projects.getContent());
+        return projects;
+    }
 
-        Page<Project> projects = projectRepository.findAll(spec, pageable);
-        List<ProjectReadDto> filteredProjects = projects.getContent().stream()
-                .filter(project -> project.getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId)))
-                .map(projectMapper::toReadDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPageDto<ProjectReadDto> getAllProjectsAfter(String after, int size, String name, String description,
+                                                             UUID userId, UUID currentUserId) {
+        CursorUtil.validateSize(size);
+        CursorUtil.Cursor cursor = CursorUtil.decode(after);
+        var spec = buildProjectSpecification(name, description, userId, currentUserId)
+                .and(KeysetSpecification.isAfter(cursor.createdAt(), cursor.id()));
+
+        List<ProjectView> projects = projectRepository.findAll(spec, KeysetSpecification.SORT, 0, size + 1, ProjectView.class);
+        CursorPageDto<ProjectReadDto> page = CursorUtil.toCursorPage(projects, size, ProjectView::getCreatedAt, ProjectView::getId,
+                projectMapper::toReadDto);
+        setMembers(page.getContent());
+        return page;
+    }
 
-        return new PageImpl<>(filteredProjects, pageable, projects.getTotalElements());
+    /**
+     * Fills in the member ids and member count of a page of projects with one query instead of initializing each
+     * users collection. At most member-ids-limit ids are embedded per project; the full list is paged through the
+     * members endpoint.
+     */
+    private void setMembers(List<ProjectReadDto> projects) {
+        if (projects.isEmpty()) {
+            return;
+        }
+        Map<UUID, List<ProjectUserIdView>> members = projectRepository.findUserIdsByProjectIds(
+                        projects.stream().map(ProjectReadDto::getId).toList(), memberIdsLimit).stream()
+                .collect(Collectors.groupingBy(ProjectUserIdView::getProjectId));
+        for (ProjectReadDto project : projects) {
+            List<ProjectUserIdView> rows = members.getOrDefault(project.getId(), List.of());
+            project.setUserIds(rows.stream().map(ProjectUserIdView::getUserId).collect(Collectors.toSet()));
+            project.setMemberCount(rows.isEmpty() ? 0 : rows.getFirst().getMemberCount());
+        }
     }
 
+    private ProjectReadDto toReadDto(Project project) {
+        ProjectReadDto dto = projectMapper.toReadDto(project);
+        setMembers(List.of(dto));
+        return dto;
+    }
+
+    private Specification<Project> buildProjectSpecification(String name, String description, UUID userId, UUID currentUserId) {
+        return ProjectSpecification.hasNameLike(name)
+                .and(ProjectSpecification.hasDescriptionLike(description))
+                .and(ProjectSpecification.hasUserId(userId))
+                .and(ProjectSpecification.hasUserId(currentUserId));
+    }
+
+    @Transactional
     public ProjectReadDto addUserToProject(UUID projectId, UUID userId, UUID currentUserId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new NotFoundException("Project not found with ID: " + projectId));
 
-        if (!project.getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId))) {
+        if (!projectMembershipCache.isMember(projectId, currentUserId)) {
             throw new UnauthorizedException("You are not authorized to modify this project");
         }
 
-        User user = userService.getUserEntityById(userId);
-        project.getUsers().add(user);
-
-        Project updatedProject = projectRepository.save(project);
+        userService.getUserEntityById(userId);
+        // Membership rows are written directly so the users collection is never loaded
+        projectRepository.addUser(projectId, userId);
+        markChanged(List.of(projectId));
+        projectMembershipCache.invalidate(projectId);
         logger.info("User {} added to project {}", userId, projectId);
 
-        return projectMapper.toReadDto(updatedProject);
+        return toReadDto(project);
     }
 
+    @Transactional
     public ProjectReadDto removeUserFromProject(UUID projectId, UUID userId, UUID currentUserId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new NotFoundException("Project not found with ID: " + projectId));
 
-        if (!project.getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId))) {
+        if (!projectMembershipCache.isMember(projectId, currentUserId)) {
             throw new UnauthorizedException("You are not authorized to modify this project");
         }
 
-        project.getUsers().removeIf(user -> user.getId().equals(userId));
-        Project updatedProject = projectRepository.save(project);
+        projectRepository.removeUser(projectId, userId);
+        markChanged(List.of(projectId));
+        projectMembershipCache.invalidate(projectId);
         logger.info("User {} removed from project {}", userId, projectId);
 
-        return projectMapper.toReadDto(updatedProject);
+        return toReadDto(project);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ProjectMemberDto> getProjectMembers(UUID projectId, Pageable pageable, UUID currentUserId) {
+        verifyMembership(projectId, currentUserId, "You are not authorized to view this project");
+
+        return projectRepository.findMembersByProjectId(projectId, pageable)
+                .map(projectMapper::toMemberDto);
+    }
+
+    public void verifyMembership(UUID projectId, UUID currentUserId, String message) {
+        if (projectMembershipCache.isMember(projectId, currentUserId)) {
+            return;
+        }
+        if (!projectRepository.existsById(projectId)) {
+            throw new NotFoundException("Project not found with ID: " + projectId);
+        }
+        throw new UnauthorizedException(message);
+    }
+
+    /**
+     * Returns an ETag for the project and everything scoped to it, derived from its change counter.
+     */
+    @Transactional(readOnly = true)
+    public String getProjectEtag(UUID projectId, UUID currentUserId) {
+        verifyMembership(projectId, currentUserId, "You are not authorized to view this project");
+        return EtagUtil.of(projectId, getChangeVersion(projectId));
+    }
+
+    /**
+     * Returns the project's change counter, which moves forward with every write to the project, its members,
+     * steps or tasks.
+     */
+    public long getChangeVersion(UUID projectId) {
+        return projectRepository.findChangeVersionById(projectId)
+                .orElseThrow(() -> new NotFoundException("Project not found with ID: " + projectId));
+    }
+
+    /**
+     * Bumps the change counter of the given projects just before the current transaction commits; see
+     * {@link ProjectChangeTracker#markChanged}.
+     */
+    public void markChanged(Collection<UUID> projectIds) {
+        projectChangeTracker.markChanged(projectIds);
     }
 
     public Project getProjectEntityById(UUID id) {
@@ -0,0 +1,29 @@
+package com.projectmanager.service;
+
+import com.projectmanager.util.TransactionUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Evicts soft-deleted rows from the second-level cache. A soft delete is an update, so Hibernate would keep the
+ * entry with deleted = true and serve it to lookups by id, which bypass the deleted = false restriction. Eviction
+ * runs after commit because committing a cached update puts the new state back into the region.
+ */
+@Service
+public class SecondLevelCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public void evictAfterCommit(Class<?> entityType, Object id) {
+        TransactionUtil.afterCommit(() -> entityManagerFactory.getCache().evict(entityType, id));
+    }
+
+    public void evictCollectionAfterCommit(String role) {
+        TransactionUtil.afterCommit(() -> entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictCollectionData(role));
+    }
+
+}
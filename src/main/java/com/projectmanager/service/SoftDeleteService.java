@@ -0,0 +1,130 @@
+package com.projectmanager.service;
+
+import com.projectmanager.entity.SoftDeleteCascade;
+import com.projectmanager.entity.SoftDeleteScope;
+import com.projectmanager.repository.SoftDeleteCascadeRepository;
+import com.projectmanager.repository.StepRepository;
+import com.projectmanager.repository.TaskRepository;
+import com.projectmanager.repository.TaskStatusCountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cascades soft deletes from projects and steps to their children with bulk UPDATE statements. The first
+ * chunk of tasks is deleted in the caller's transaction, so ordinary deletes complete immediately; larger
+ * ones are queued and finished chunk by chunk, each chunk in its own short transaction. The deleted scope's
+ * status counters are dropped with the first chunk and again with every later one, since writers that still
+ * reached a not yet deleted task in between recreate them.
+ */
+@Service
+public class SoftDeleteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SoftDeleteService.class);
+
+    private final ProjectChangeTracker projectChangeTracker;
+    private final StepRepository stepRepository;
+    private final TaskRepository taskRepository;
+    private final TaskStatusCountRepository taskStatusCountRepository;
+    private final SoftDeleteCascadeRepository softDeleteCascadeRepository;
+
+    @Value("${app.soft-delete.batch-size:5000}")
+    private int batchSize;
+
+    public SoftDeleteService(ProjectChangeTracker projectChangeTracker, StepRepository stepRepository, TaskRepository taskRepository,
+                             TaskStatusCountRepository taskStatusCountRepository,
+                             SoftDeleteCascadeRepository softDeleteCascadeRepository) {
+        this.projectChangeTracker = projectChangeTracker;
+        this.stepRepository = stepRepository;
+        this.taskRepository = taskRepository;
+        this.taskStatusCountRepository = taskStatusCountRepository;
+        this.softDeleteCascadeRepository = softDeleteCascadeRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void cascadeProject(UUID projectId, LocalDateTime deletedAt) {
+        int steps = stepRepository.softDeleteByProjectId(projectId, deletedAt);
+        int tasks = taskRepository.softDeleteBatchByProjectId(projectId, deletedAt, batchSize);
+        taskStatusCountRepository.deleteByProjectId(projectId);
+        logger.info("Soft deleted {} steps and {} tasks of project {}", steps, tasks, projectId);
+        enqueueIfIncomplete(SoftDeleteScope.PROJECT, projectId, deletedAt, tasks);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void cascadeStep(UUID stepId, LocalDateTime deletedAt) {
+        int tasks = taskRepository.softDeleteBatchByStepId(stepId, deletedAt, batchSize);
+        taskStatusCountRepository.deleteByStepId(stepId);
+        logger.info("Soft deleted {} tasks of step {}", tasks, stepId);
+        enqueueIfIncomplete(SoftDeleteScope.STEP, stepId, deletedAt, tasks);
+    }
+
+    /**
+     * Processes one chunk of the oldest queued cascade and returns the number of tasks deleted, or -1 when
+     * there is nothing left to do. Each chunk changes what the project's lists return, so it bumps the project's
+     * change counter like any other write.
+     */
+    @Transactional
+    public int processNextChunk() {
+        Optional<SoftDeleteCascade> next = softDeleteCascadeRepository.findNextForUpdate();
+        if (next.isEmpty()) {
+            return -1;
+        }
+
+        SoftDeleteCascade cascade = next.get();
+        int tasks = switch (cascade.getScope()) {
+            case PROJECT -> taskRepository.softDeleteBatchByProjectId(cascade.getParentId(), cascade.getDeletedAt(), batchSize);
+            case STEP -> taskRepository.softDeleteBatchByStepId(cascade.getParentId(), cascade.getDeletedAt(), batchSize);
+        };
+        deleteCounters(cascade);
+        findProjectId(cascade).ifPresent(projectId -> projectChangeTracker.markChanged(List.of(projectId)));
+        cascade.setProcessed(cascade.getProcessed() + tasks);
+
+        if (tasks < batchSize) {
+            softDeleteCascadeRepository.delete(cascade);
+            logger.info("Soft delete of {} {} completed, {} tasks deleted", cascade.getScope(), cascade.getParentId(),
+                    cascade.getProcessed());
+        } else {
+            logger.info("Soft delete of {} {} in progress, {} tasks deleted so far", cascade.getScope(), cascade.getParentId(),
+                    cascade.getProcessed());
+        }
+        return tasks;
+    }
+
+    private void deleteCounters(SoftDeleteCascade cascade) {
+        switch (cascade.getScope()) {
+            case PROJECT -> taskStatusCountRepository.deleteByProjectId(cascade.getParentId());
+            case STEP -> taskStatusCountRepository.deleteByStepId(cascade.getParentId());
+        }
+    }
+
+    private Optional<UUID> findProjectId(SoftDeleteCascade cascade) {
+        return switch (cascade.getScope()) {
+            case PROJECT -> Optional.of(cascade.getParentId());
+            case STEP -> stepRepository.findProjectIdIncludingDeleted(cascade.getParentId());
+        };
+    }
+
+    private void enqueueIfIncomplete(SoftDeleteScope scope, UUID parentId, LocalDateTime deletedAt, int deleted) {
+        if (deleted < batchSize) {
+            return;
+        }
+        SoftDeleteCascade cascade = SoftDeleteCascade.builder()
+                .id(UUID.randomUUID())
+                .scope(scope)
+                .parentId(parentId)
+                .processed(deleted)
+                .deletedAt(deletedAt)
+                .build();
+        softDeleteCascadeRepository.save(cascade);
+        logger.info("Soft delete of {} {} queued for background completion", scope, parentId);
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.projectmanager.service;
 
+import com.projectmanager.dto.page.CursorPageDto;
+import com.projectmanager.dto.page.PageMode;
 import com.projectmanager.dto.step.StepCreateDto;
 import com.projectmanager.dto.step.StepReadDto;
 import com.projectmanager.dto.step.StepUpdateDto;
@@ -9,14 +11,27 @@ import com.projectmanager.exception.NotFoundException;
 import com.projectmanager.exception.UnauthorizedException;
 import com.projectmanager.mapper.StepMapper;
 import com.projectmanager.repository.StepRepository;
+import com.projectmanager.repository.projection.StepDetailView;
+import com.projectmanager.repository.projection.StepView;
+import com.projectmanager.security.ProjectMembershipCache;
+import com.projectmanager.specification.KeysetSpecification;
 import com.projectmanager.specification.StepSpecification;
+import com.projectmanager.util.CursorUtil;
+import com.projectmanager.util.EtagUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class StepService {
@@ -26,17 +41,26 @@ public class StepService {
     private final StepRepository stepRepository;
     private final StepMapper stepMapper;
     private final ProjectService projectService;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final SoftDeleteService softDeleteService;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
 
-    public StepService(StepRepository stepRepository, StepMapper stepMapper, ProjectService projectService) {
+    public StepService(StepRepository stepRepository, StepMapper stepMapper, ProjectService projectService,
+                       ProjectMembershipCache projectMembershipCache, SoftDeleteService softDeleteService,
+                       SecondLevelCacheEvictor secondLevelCacheEvictor) {
         this.stepRepository = stepRepository;
         this.stepMapper = stepMapper;
         this.projectService = projectService;
+        this.projectMembershipCache = projectMembershipCache;
+        this.softDeleteService = softDeleteService;
+        this.secondLevelCacheEvictor = secondLevelCacheEvictor;
     }
 
+    @Transactional
     public StepReadDto createStep(StepCreateDto dto, UUID projectId, UUID currentUserId) {
         Project project = projectService.getProjectEntityById(projectId);
 
-        if (!project.getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId))) {
+        if (!projectMembershipCache.isMember(projectId, currentUserId)) {
             throw new UnauthorizedException("You are not authorized to create steps in this project");
         }
 
@@ -46,64 +70,103 @@ public class StepService {
         step.setDeleted(false);
 
         Step savedStep = stepRepository.save(step);
+        projectService.markChanged(List.of(projectId));
         logger.info("Step created with ID: {} for project {}", savedStep.getId(), projectId);
 
         return stepMapper.toReadDto(savedStep);
     }
 
+    @Transactional
     public StepReadDto updateStep(UUID id, StepUpdateDto dto, UUID currentUserId) {
         Step step = stepRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Step not found with ID: " + id));
 
-        if (!step.getProject().getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId))) {
+        if (!projectMembershipCache.isMember(step.getProject().getId(), currentUserId)) {
             throw new UnauthorizedException("You are not authorized to update this step");
         }
 
         stepMapper.updateEntity(step, dto);
         Step updatedStep = stepRepository.save(step);
+        projectService.markChanged(List.of(step.getProject().getId()));
         logger.info("Step updated with ID: {}", updatedStep.getId());
 
         return stepMapper.toReadDto(updatedStep);
     }
 
+    @Transactional
     public void deleteStep(UUID id, UUID currentUserId) {
         Step step = stepRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Step not found with ID: " + id));
 
-        if (!step.getProject().getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId))) {
+        if (!projectMembershipCache.isMember(step.getProject().getId(), currentUserId)) {
             throw new UnauthorizedException("You are not authorized to delete this step");
         }
 
+        LocalDateTime deletedAt = LocalDateTime.now();
         step.setDeleted(true);
+        step.setDeletedAt(deletedAt);
         stepRepository.save(step);
+        softDeleteService.cascadeStep(id, deletedAt);
+        projectService.markChanged(List.of(step.getProject().getId()));
+        secondLevelCacheEvictor.evictAfterCommit(Step.class, id);
         logger.info("Step logically deleted with ID: {}", id);
     }
 
+    @Transactional(readOnly = true)
     public StepReadDto getStepById(UUID id, UUID currentUserId) {
-        Step step = stepRepository.findById(id)
+        StepDetailView step = stepRepository.findDetailById(id)
                 .orElseThrow(() -> new NotFoundException("Step not found with ID: " + id));
 
-        if (!step.getProject().getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId))) {
+        if (!projectMembershipCache.isMember(step.getProjectId(), currentUserId)) {
             throw new UnauthorizedException("You are not authorized to view this step");
         }
 
         return stepMapper.toReadDto(step);
     }
 
-    public Page<StepReadDto> getStepsByProjectId(UUID projectId, Pageable pageable, String name, UUID currentUserId) {
-        Project project = projectService.getProjectEntityById(projectId);
+    @Transactional(readOnly = true)
+    public String getStepEtag(UUID id, UUID currentUserId) {
+        var version = stepRepository.findVersionById(id)
+                .orElseThrow(() -> new NotFoundException("Step not found with ID: " + id));
 
-        if (!project.getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId))) {
-            throw new UnauthorizedException("You are not authorized to view steps in this project");
+        if (!projectMembershipCache.isMember(version.getProjectId(), currentUserId)) {
+            throw new UnauthorizedException("You are not authorized to view this step");
         }
 
+        return EtagUtil.of(id, version.getUpdatedAt());
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<StepReadDto> getStepsByProjectId(UUID projectId, Pageable pageable, PageMode mode, String name, UUID currentUserId) {
+        projectService.verifyMembership(projectId, currentUserId, "You are not authorized to view steps in this project");
+
         var spec = StepSpecification.hasProjectId(projectId)
                 .and(StepSpecification.hasNameLike(name));
 
-        return stepRepository.findAll(spec, pageable)
+        return stepRepository.findAll(spec, pageable, mode, StepView.class)
                 .map(stepMapper::toReadDto);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDto<StepReadDto> getStepsByProjectIdAfter(UUID projectId, String after, int size, String name, UUID currentUserId) {
+        CursorUtil.validateSize(size);
+        projectService.verifyMembership(projectId, currentUserId, "You are not authorized to view steps in this project");
+
+        CursorUtil.Cursor cursor = CursorUtil.decode(after);
+        var spec = StepSpecification.hasProjectId(projectId)
+                .and(StepSpecification.hasNameLike(name))
+                .and(KeysetSpecification.isAfter(cursor.createdAt(), cursor.id()));
+
+        List<StepView> steps = stepRepository.findAll(spec, KeysetSpecification.SORT, 0, size + 1, StepView.class);
+        return CursorUtil.toCursorPage(steps, size, StepView::getCreatedAt, StepView::getId, stepMapper::toReadDto);
+    }
+
+    public Map<UUID, Step> getStepEntitiesByIds(Collection<UUID> ids) {
+        return stepRepository.findAllWithProjectByIdIn(ids).stream()
+                .collect(Collectors.toMap(Step::getId, Function.identity()));
+    }
+
+    // Served from the second-level cache; the project is resolved from its own region when first accessed
     public Step getStepEntityById(UUID id) {
         return stepRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Step not found with ID: " + id));
@@ -0,0 +1,50 @@
+package com.projectmanager.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanager.dto.page.PageMode;
+import com.projectmanager.dto.task.TaskReadDto;
+import com.projectmanager.entity.TaskStatus;
+import com.projectmanager.util.CacheUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Caches pages of a project's task list keyed by the filters and the project's change version. Every task and
+ * step write bumps that version, so one write makes all cached pages of the project unreachable at once; the
+ * stale entries are never read again and age out through the size bound and TTL.
+ */
+@Service
+public class TaskListCache {
+
+    private final AsyncCache<Key, Slice<TaskReadDto>> pages;
+
+    public TaskListCache(MeterRegistry meterRegistry,
+                         @Value("${app.task-list-cache.maximum-size:10000}") long maximumSize,
+                         @Value("${app.task-list-cache.expire-after-write:60000}") long expireAfterWrite) {
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWrite))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages.synchronous(), "taskListPages");
+    }
+
+    // Concurrent requests for the same missing page wait for a single load instead of all querying
+    public Slice<TaskReadDto> get(Key key, Supplier<Slice<TaskReadDto>> loader) {
+        return CacheUtil.get(pages, key, k -> loader.get());
+    }
+
+    public record Key(UUID projectId, long changeVersion, String title, String description, UUID assignedTo,
+                      UUID stepId, TaskStatus status, boolean includeArchived, PageMode mode, Pageable pageable) {
+    }
+
+}
@@ -1,58 +1,112 @@
 package com.projectmanager.service;
 
+import com.projectmanager.dto.page.CursorPageDto;
+import com.projectmanager.dto.page.EstimatedPage;
+import com.projectmanager.dto.page.PageMode;
+import com.projectmanager.dto.task.TaskBatchCreateDto;
+import com.projectmanager.dto.task.TaskBatchResultDto;
+import com.projectmanager.dto.task.TaskBatchUpdateDto;
+import com.projectmanager.dto.task.TaskBatchUpdateItemDto;
 import com.projectmanager.dto.task.TaskCreateDto;
 import com.projectmanager.dto.task.TaskReadDto;
 import com.projectmanager.dto.task.TaskUpdateDto;
+import com.projectmanager.entity.ArchivedTask;
 import com.projectmanager.entity.Project;
 import com.projectmanager.entity.Step;
 import com.projectmanager.entity.Task;
 import com.projectmanager.entity.TaskStatus;
+import com.projectmanager.entity.User;
 import com.projectmanager.exception.BadRequestException;
+import com.projectmanager.exception.ConflictException;
 import com.projectmanager.exception.NotFoundException;
 import com.projectmanager.exception.UnauthorizedException;
 import com.projectmanager.mapper.TaskMapper;
+import com.projectmanager.repository.ArchivedTaskRepository;
 import com.projectmanager.repository.TaskRepository;
+import com.projectmanager.repository.projection.TaskDetailView;
+import com.projectmanager.repository.projection.TaskStateView;
+import com.projectmanager.repository.projection.TaskView;
+import com.projectmanager.security.ProjectMembershipCache;
+import com.projectmanager.specification.ArchivedTaskSpecification;
+import com.projectmanager.specification.KeysetSpecification;
 import com.projectmanager.specification.TaskSpecification;
+import com.projectmanager.util.CursorUtil;
+import com.projectmanager.util.EtagUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class TaskService {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
 
+    // KeysetSpecification.SORT as Postgres applies it: uuids compare as unsigned bytes, unlike UUID.compareTo
+    private static final Comparator<TaskReadDto> KEYSET_ORDER = Comparator.comparing(TaskReadDto::getCreatedAt)
+            .thenComparing(TaskReadDto::getId, Comparator.comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+                    .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned));
+
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
     private final StepService stepService;
     private final UserService userService;
     private final ProjectService projectService;
-    private final EmailService emailService;
+    private final NotificationDigestService notificationDigestService;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final TaskStatsService taskStatsService;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskListCache taskListCache;
 
     public TaskService(TaskRepository taskRepository, TaskMapper taskMapper, StepService stepService, 
-                       UserService userService, ProjectService projectService, EmailService emailService) {
+                       UserService userService, ProjectService projectService, NotificationDigestService notificationDigestService,
+                       ProjectMembershipCache projectMembershipCache, TaskStatsService taskStatsService,
+                       ArchivedTaskRepository archivedTaskRepository, TaskListCache taskListCache) {
         this.taskRepository = taskRepository;
         this.taskMapper = taskMapper;
         this.stepService = stepService;
         this.userService = userService;
         this.projectService = projectService;
-        this.emailService = emailService;
+        this.notificationDigestService = notificationDigestService;
+        this.projectMembershipCache = projectMembershipCache;
+        this.taskStatsService = taskStatsService;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.taskListCache = taskListCache;
     }
 
-    public TaskReadDto createTask(TaskCreateDto dto, UUID currentUserId) throws Exception {
+    @Transactional
+    public TaskReadDto createTask(TaskCreateDto dto, UUID currentUserId) {
         Step step = stepService.getStepEntityById(dto.getStepId());
         Project project = step.getProject();
 
-        if (!project.getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId))) {
+        if (!projectMembershipCache.isMember(project.getId(), currentUserId)) {
             throw new UnauthorizedException("You are not authorized to create tasks in this project");
         }
 
         if (dto.getAssignedTo() != null && 
-            !project.getUsers().stream().anyMatch(user -> user.getId().equals(dto.getAssignedTo()))) {
+            !projectMembershipCache.isMember(project.getId(), dto.getAssignedTo())) {
             throw new BadRequestException("Assigned user must be a member of the project");
         }
 
@@ -68,31 +122,40 @@ public class TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
+        taskStatsService.recordCreated(List.of(savedTask));
+        projectService.markChanged(List.of(project.getId()));
         logger.info("Task created with ID: {} in project {}", savedTask.getId(), project.getId());
 
         if (task.getAssignedTo() != null) {
-            emailService.sendTaskAssignmentEmail(task.getAssignedTo().getEmail(), task.getTitle(), project.getName());
-            logger.info("Task assignment email sent to: {}", task.getAssignedTo().getEmail());
+            notifyAssignment(savedTask, project);
         }
 
         return taskMapper.toReadDto(savedTask);
     }
 
+    @Transactional
     public TaskReadDto updateTask(UUID id, TaskUpdateDto dto, UUID currentUserId) {
-        Task task = taskRepository.findById(id)
+        Task task = taskRepository.findWithStepById(id)
                 .orElseThrow(() -> new NotFoundException("Task not found with ID: " + id));
 
         Project project = task.getStep().getProject();
 
-        if (!project.getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId))) {
+        if (!projectMembershipCache.isMember(project.getId(), currentUserId)) {
             throw new UnauthorizedException("You are not authorized to update this task");
         }
 
         if (dto.getAssignedTo() != null && 
-            !project.getUsers().stream().anyMatch(user -> user.getId().equals(dto.getAssignedTo()))) {
+            !projectMembershipCache.isMember(project.getId(), dto.getAssignedTo())) {
             throw new BadRequestException("Assigned user must be a member of the project");
         }
 
+        // Same rule as updateTaskStatus and the batch update
+        if (!isAllowedStatusChange(task.getStatus(), dto.getStatus())) {
+            throw new BadRequestException("Task status cannot change from " + task.getStatus() + " to " + dto.getStatus());
+        }
+
+        boolean reassigned = isReassignment(task, dto.getAssignedTo());
+        TaskStatus previousStatus = task.getStatus();
         taskMapper.updateEntity(task, dto);
         if (dto.getAssignedTo() != null) {
             var assignedUser = userService.getUserEntityById(dto.getAssignedTo());
@@ -100,82 +163,411 @@ public class TaskService {
         }
 
         Task updatedTask = taskRepository.save(task);
+        taskStatsService.recordStatusChange(updatedTask, previousStatus);
+        projectService.markChanged(List.of(project.getId()));
         logger.info("Task updated with ID: {}", updatedTask.getId());
 
+        if (reassigned) {
+            notifyAssignment(updatedTask, project);
+        }
+
         return taskMapper.toReadDto(updatedTask);
     }
 
+    @Transactional
+    public List<TaskBatchResultDto> createTasks(TaskBatchCreateDto dto, UUID currentUserId) {
+        List<TaskCreateDto> items = dto.getTasks();
+        Map<UUID, Step> steps = stepService.getStepEntitiesByIds(items.stream()
+                .map(TaskCreateDto::getStepId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        Map<UUID, User> assignees = userService.getUserEntitiesByIds(items.stream()
+                .map(TaskCreateDto::getAssignedTo)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        Map<UUID, Boolean> authorizedProjects = new HashMap<>();
+
+        TaskBatchResultDto[] results = new TaskBatchResultDto[items.size()];
+        Map<Integer, Task> created = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            TaskCreateDto item = items.get(i);
+            Step step = steps.get(item.getStepId());
+            if (step == null) {
+                results[i] = batchFailure(i, "Step not found with ID: " + item.getStepId());
+                continue;
+            }
+
+            Project project = step.getProject();
+            if (!authorizedProjects.computeIfAbsent(project.getId(), projectId -> projectMembershipCache.isMember(projectId, currentUserId))) {
+                results[i] = batchFailure(i, "You are not authorized to create tasks in this project");
+                continue;
+            }
+
+            User assignedUser = null;
+            if (item.getAssignedTo() != null) {
+                if (!projectMembershipCache.isMember(project.getId(), item.getAssignedTo())) {
+                    results[i] = batchFailure(i, "Assigned user must be a member of the project");
+                    continue;
+                }
+                assignedUser = assignees.get(item.getAssignedTo());
+                if (assignedUser == null) {
+                    results[i] = batchFailure(i, "User not found with ID: " + item.getAssignedTo());
+                    continue;
+                }
+            }
+
+            Task task = taskMapper.toEntity(item);
+            task.setId(UUID.randomUUID());
+            task.setStep(step);
+            task.setStatus(TaskStatus.TODO);
+            task.setDeleted(false);
+            task.setAssignedTo(assignedUser);
+            created.put(i, task);
+        }
+
+        taskRepository.persistAll(created.values());
+        taskRepository.flush();
+        taskStatsService.recordCreated(created.values());
+        projectService.markChanged(projectIdsOf(created.values()));
+        logger.info("Batch created {} of {} tasks", created.size(), items.size());
+
+        created.forEach((index, task) -> {
+            results[index] = batchSuccess(index, task);
+            if (task.getAssignedTo() != null) {
+                notifyAssignment(task, task.getStep().getProject());
+            }
+        });
+        return List.of(results);
+    }
+
+    @Transactional
+    public List<TaskBatchResultDto> updateTasks(TaskBatchUpdateDto dto, UUID currentUserId) {
+        List<TaskBatchUpdateItemDto> items = dto.getTasks();
+        Map<UUID, Task> tasks = taskRepository.findAllWithStepByIdIn(items.stream()
+                        .map(TaskBatchUpdateItemDto::getId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Map<UUID, User> assignees = userService.getUserEntitiesByIds(items.stream()
+                .map(TaskBatchUpdateItemDto::getAssignedTo)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        Map<UUID, Boolean> authorizedProjects = new HashMap<>();
+
+        TaskBatchResultDto[] results = new TaskBatchResultDto[items.size()];
+        Map<Integer, Task> updated = new LinkedHashMap<>();
+        Map<Task, TaskStatus> previousStatuses = new IdentityHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            TaskBatchUpdateItemDto item = items.get(i);
+            Task task = tasks.get(item.getId());
+            if (task == null) {
+                results[i] = batchFailure(i, "Task not found with ID: " + item.getId());
+                continue;
+            }
+
+            UUID projectId = task.getStep().getProject().getId();
+            if (!authorizedProjects.computeIfAbsent(projectId, id -> projectMembershipCache.isMember(id, currentUserId))) {
+                results[i] = batchFailure(i, "You are not authorized to update this task");
+                continue;
+            }
+
+            User assignedUser = null;
+            if (item.getAssignedTo() != null) {
+                if (!projectMembershipCache.isMember(projectId, item.getAssignedTo())) {
+                    results[i] = batchFailure(i, "Assigned user must be a member of the project");
+                    continue;
+                }
+                assignedUser = assignees.get(item.getAssignedTo());
+                if (assignedUser == null) {
+                    results[i] = batchFailure(i, "User not found with ID: " + item.getAssignedTo());
+                    continue;
+                }
+            }
+
+            // Same rule as updateTaskStatus; the versioned UPDATE on flush turns a concurrent change into a 409
+            if (!isAllowedStatusChange(task.getStatus(), item.getStatus())) {
+                results[i] = batchFailure(i, "Task status cannot change from " + task.getStatus() + " to " + item.getStatus());
+                continue;
+            }
+
+            boolean reassigned = isReassignment(task, item.getAssignedTo());
+            previousStatuses.putIfAbsent(task, task.getStatus());
+            taskMapper.updateEntity(task, item);
+            if (assignedUser != null) {
+                task.setAssignedTo(assignedUser);
+            }
+            if (reassigned) {
+                notifyAssignment(task, task.getStep().getProject());
+            }
+            updated.put(i, task);
+        }
+
+        taskRepository.flush();
+        taskStatsService.recordStatusChanges(previousStatuses);
+        projectService.markChanged(projectIdsOf(updated.values()));
+        logger.info("Batch updated {} of {} tasks", updated.size(), items.size());
+
+        updated.forEach((index, task) -> results[index] = batchSuccess(index, task));
+        return List.of(results);
+    }
+
+    @Transactional
     public void deleteTask(UUID id, UUID currentUserId) {
-        Task task = taskRepository.findById(id)
+        Task task = taskRepository.findWithStepById(id)
                 .orElseThrow(() -> new NotFoundException("Task not found with ID: " + id));
 
-        if (!task.getStep().getProject().getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId))) {
+        if (!projectMembershipCache.isMember(task.getStep().getProject().getId(), currentUserId)) {
             throw new UnauthorizedException("You are not authorized to delete this task");
         }
 
         task.setDeleted(true);
+        task.setDeletedAt(LocalDateTime.now());
         taskRepository.save(task);
+        taskStatsService.recordDeleted(task);
+        projectService.markChanged(List.of(task.getStep().getProject().getId()));
         logger.info("Task logically deleted with ID: {}", id);
     }
 
+    @Transactional(readOnly = true)
     public TaskReadDto getTaskById(UUID id, UUID currentUserId) {
-        Task task = taskRepository.findById(id)
+        Optional<TaskDetailView> task = taskRepository.findDetailById(id);
+        if (task.isEmpty()) {
+            return getArchivedTaskById(id, currentUserId);
+        }
+
+        if (!projectMembershipCache.isMember(task.get().getProjectId(), currentUserId)) {
+            throw new UnauthorizedException("You are not authorized to view this task");
+        }
+
+        return taskMapper.toReadDto(task.get());
+    }
+
+    /**
+     * Archived tasks stay readable by id; they are read-only, so updates, status changes and deletes still
+     * answer 404 for them.
+     */
+    private TaskReadDto getArchivedTaskById(UUID id, UUID currentUserId) {
+        ArchivedTask task = archivedTaskRepository.findLiveById(id)
                 .orElseThrow(() -> new NotFoundException("Task not found with ID: " + id));
 
-        if (!task.getStep().getProject().getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId))) {
+        if (!projectMembershipCache.isMember(task.getProjectId(), currentUserId)) {
             throw new UnauthorizedException("You are not authorized to view this task");
         }
 
         return taskMapper.toReadDto(task);
     }
 
-    public Page<TaskReadDto> getTasksByProjectId(UUID projectId, Pageable pageable, String title, String description, 
-                                                  UUID assignedTo, UUID stepId, TaskStatus status, UUID currentUserId) {
-        Project project = projectService.getProjectEntityById(projectId);
+    @Transactional(readOnly = true)
+    public String getTaskEtag(UUID id, UUID currentUserId) {
+        var version = taskRepository.findVersionById(id)
+                .or(() -> archivedTaskRepository.findVersionById(id))
+                .orElseThrow(() -> new NotFoundException("Task not found with ID: " + id));
+
+        if (!projectMembershipCache.isMember(version.getProjectId(), currentUserId)) {
+            throw new UnauthorizedException("You are not authorized to view this task");
+        }
+
+        return EtagUtil.of(id, version.getUpdatedAt());
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<TaskReadDto> getTasksByProjectId(UUID projectId, Pageable pageable, PageMode mode, String title, String description, 
+                                                   UUID assignedTo, UUID stepId, TaskStatus status, boolean includeArchived,
+                                                   UUID currentUserId) {
+        projectService.verifyMembership(projectId, currentUserId, "You are not authorized to view tasks in this project");
+
+        var key = new TaskListCache.Key(projectId, projectService.getChangeVersion(projectId), title, description,
+                assignedTo, stepId, status, includeArchived, mode, pageable);
+        return taskListCache.get(key, () -> findTasksByProjectId(projectId, pageable, mode, title, description,
+                assignedTo, stepId, status, includeArchived));
+    }
+
+    private Slice<TaskReadDto> findTasksByProjectId(UUID projectId, Pageable pageable, PageMode mode, String title,
+                                                    String description, UUID assignedTo, UUID stepId, TaskStatus status,
+                                                    boolean includeArchived) {
+        var spec = buildTaskSpecification(projectId, title, description, assignedTo, stepId, status);
+
+        if (includesArchive(status, includeArchived)) {
+            return findTasksWithArchive(spec, buildArchivedTaskSpecification(projectId, title, description, assignedTo, stepId),
+                    pageable, mode);
+        }
+
+        return taskRepository.findAll(spec, pageable, mode, TaskView.class)
+                .map(taskMapper::toReadDto);
+    }
+
+    /**
+     * Lists live tasks followed by archived ones. SLICE skips counting; EXACT and ESTIMATED both count the two
+     * tables exactly, since an estimate would need to know where the live tasks end anyway.
+     */
+    private Slice<TaskReadDto> findTasksWithArchive(Specification<Task> spec, Specification<ArchivedTask> archiveSpec,
+                                                    Pageable pageable, PageMode mode) {
+        int size = pageable.getPageSize();
+        long offset = pageable.getOffset();
+        List<TaskReadDto> content = new ArrayList<>();
+        taskRepository.findAll(spec, KeysetSpecification.SORT, offset, size + 1, TaskView.class)
+                .forEach(task -> content.add(taskMapper.toReadDto(task)));
+
+        // Live tasks are listed first and the archive continues where they end
+        if (content.size() <= size) {
+            long liveCount = content.isEmpty() && offset > 0 ? taskRepository.count(spec) : offset + content.size();
+            long archiveOffset = Math.max(0, offset - liveCount);
+            archivedTaskRepository.findAll(archiveSpec, KeysetSpecification.SORT, archiveOffset, size + 1 - content.size())
+                    .forEach(task -> content.add(taskMapper.toReadDto(task)));
+        }
 
-        if (!project.getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId))) {
-            throw new UnauthorizedException("You are not authorized to view tasks in this project");
+        boolean hasNext = content.size() > size;
+        List<TaskReadDto> page = hasNext ? content.subList(0, size) : content;
+        if (mode == PageMode.SLICE) {
+            return new SliceImpl<>(page, pageable, hasNext);
         }
+        Page<TaskReadDto> counted = PageableExecutionUtils.getPage(page, pageable,
+                () -> taskRepository.count(spec) + archivedTaskRepository.count(archiveSpec));
+        return mode == PageMode.ESTIMATED
+                ? new EstimatedPage<>(counted.getContent(), pageable, counted.getTotalElements(), false)
+                : counted;
+    }
 
-        var spec = TaskSpecification.hasProjectId(projectId)
+    @Transactional(readOnly = true)
+    public CursorPageDto<TaskReadDto> getTasksByProjectIdAfter(UUID projectId, String after, int size, String title, String description,
+                                                               UUID assignedTo, UUID stepId, TaskStatus status, boolean includeArchived,
+                                                               UUID currentUserId) {
+        CursorUtil.validateSize(size);
+        projectService.verifyMembership(projectId, currentUserId, "You are not authorized to view tasks in this project");
+
+        CursorUtil.Cursor cursor = CursorUtil.decode(after);
+        var spec = buildTaskSpecification(projectId, title, description, assignedTo, stepId, status)
+                .and(KeysetSpecification.isAfter(cursor.createdAt(), cursor.id()));
+
+        List<TaskReadDto> tasks = new ArrayList<>();
+        taskRepository.findAll(spec, KeysetSpecification.SORT, 0, size + 1, TaskView.class)
+                .forEach(task -> tasks.add(taskMapper.toReadDto(task)));
+
+        // Unlike the offset listing, live and archived tasks are merged in keyset order so one cursor covers both
+        if (includesArchive(status, includeArchived)) {
+            var archiveSpec = buildArchivedTaskSpecification(projectId, title, description, assignedTo, stepId)
+                    .and(KeysetSpecification.<ArchivedTask>isAfter(cursor.createdAt(), cursor.id()));
+            archivedTaskRepository.findAll(archiveSpec, KeysetSpecification.SORT, 0, size + 1)
+                    .forEach(task -> tasks.add(taskMapper.toReadDto(task)));
+            tasks.sort(KEYSET_ORDER);
+        }
+
+        return CursorUtil.toCursorPage(tasks, size, TaskReadDto::getCreatedAt, TaskReadDto::getId, Function.identity());
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<TaskReadDto> searchTasksByProjectId(UUID projectId, String q, Pageable pageable, UUID assignedTo, UUID stepId,
+                                                     TaskStatus status, UUID currentUserId) {
+        projectService.verifyMembership(projectId, currentUserId, "You are not authorized to view tasks in this project");
+
+        return taskRepository.searchByProjectId(projectId, q, nameOf(status), stringOf(stepId), stringOf(assignedTo), pageable)
+                .map(taskMapper::toReadDto);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<TaskReadDto> searchTasks(String q, Pageable pageable, UUID assignedTo, TaskStatus status, UUID currentUserId) {
+        return taskRepository.searchByMemberId(currentUserId, q, nameOf(status), null, stringOf(assignedTo), pageable)
+                .map(taskMapper::toReadDto);
+    }
+
+    private static String nameOf(TaskStatus status) {
+        return status == null ? null : status.name();
+    }
+
+    private static String stringOf(UUID id) {
+        return id == null ? null : id.toString();
+    }
+
+    private Set<UUID> projectIdsOf(Collection<Task> tasks) {
+        return tasks.stream()
+                .map(task -> task.getStep().getProject().getId())
+                .collect(Collectors.toSet());
+    }
+
+    // Tasks move forward one status at a time; DONE has no successor
+    private static TaskStatus nextStatus(TaskStatus status) {
+        return switch (status) {
+            case TODO -> TaskStatus.IN_PROGRESS;
+            case IN_PROGRESS, DONE -> TaskStatus.DONE;
+        };
+    }
+
+    // A null status leaves the task as it is
+    private static boolean isAllowedStatusChange(TaskStatus current, TaskStatus requested) {
+        return requested == null || requested == current || requested == nextStatus(current);
+    }
+
+    private boolean isReassignment(Task task, UUID assignedTo) {
+        return assignedTo != null && (task.getAssignedTo() == null || !assignedTo.equals(task.getAssignedTo().getId()));
+    }
+
+    private void notifyAssignment(Task task, Project project) {
+        notificationDigestService.recordTaskAssignment(task.getAssignedTo().getEmail(), task.getId(), task.getTitle(), project.getName());
+        logger.info("Task assignment notification recorded for: {}", task.getAssignedTo().getEmail());
+    }
+
+    private TaskBatchResultDto batchSuccess(int index, Task task) {
+        TaskBatchResultDto result = new TaskBatchResultDto();
+        result.setIndex(index);
+        result.setSuccess(true);
+        result.setTask(taskMapper.toReadDto(task));
+        return result;
+    }
+
+    private TaskBatchResultDto batchFailure(int index, String error) {
+        TaskBatchResultDto result = new TaskBatchResultDto();
+        result.setIndex(index);
+        result.setSuccess(false);
+        result.setError(error);
+        return result;
+    }
+
+    // Archived tasks are all DONE, so the archive is only consulted when DONE tasks can be part of the result
+    private static boolean includesArchive(TaskStatus status, boolean includeArchived) {
+        return status == TaskStatus.DONE || (includeArchived && status == null);
+    }
+
+    private Specification<ArchivedTask> buildArchivedTaskSpecification(UUID projectId, String title, String description,
+                                                                       UUID assignedTo, UUID stepId) {
+        return ArchivedTaskSpecification.hasProjectId(projectId)
+                .and(ArchivedTaskSpecification.hasLiveStep())
+                .and(ArchivedTaskSpecification.hasTitleLike(title))
+                .and(ArchivedTaskSpecification.hasDescriptionLike(description))
+                .and(ArchivedTaskSpecification.hasAssignedTo(assignedTo))
+                .and(ArchivedTaskSpecification.hasStepId(stepId));
+    }
+
+    private Specification<Task> buildTaskSpecification(UUID projectId, String title, String description,
+                                                       UUID assignedTo, UUID stepId, TaskStatus status) {
+        return TaskSpecification.hasProjectId(projectId)
                 .and(TaskSpecification.hasTitleLike(title))
                 .and(TaskSpecification.hasDescriptionLike(description))
                 .and(TaskSpecification.hasAssignedTo(assignedTo))
                 .and(TaskSpecification.hasStepId(stepId))
                 .and(TaskSpecification.hasStatus(status));
-
-        return taskRepository.findAll(spec, pageable)
-                .map(taskMapper::toReadDto);
     }
 
+    @Transactional
     public TaskReadDto updateTaskStatus(UUID id, UUID currentUserId) {
-        Task task = taskRepository.findById(id)
+        TaskStateView state = taskRepository.findStateById(id)
                 .orElseThrow(() -> new NotFoundException("Task not found with ID: " + id));
 
-        Project project = task.getStep().getProject();
-
-        if (!project.getUsers().stream().anyMatch(user -> user.getId().equals(currentUserId))) {
+        if (!projectMembershipCache.isMember(state.getProjectId(), currentUserId)) {
             throw new UnauthorizedException("You are not authorized to update this task status");
         }
 
-        TaskStatus currentStatus = task.getStatus();
-        TaskStatus nextStatus;
-
-        switch (currentStatus) {
-            case TODO:
-                nextStatus = TaskStatus.IN_PROGRESS;
-                break;
-            case IN_PROGRESS:
-                nextStatus = TaskStatus.DONE;
-                break;
-            case DONE:
-                throw new BadRequestException("Task is already in DONE status");
-            default:
-                throw new BadRequestException("Invalid current task status");
+        TaskStatus currentStatus = state.getStatus();
+        if (currentStatus == TaskStatus.DONE) {
+            throw new BadRequestException("Task is already in DONE status");
         }
-
-        task.setStatus(nextStatus);
-        Task updatedTask = taskRepository.save(task);
+        TaskStatus nextStatus = nextStatus(currentStatus);
+
+        Task updatedTask = taskRepository.transitionStatus(id, currentStatus.name(), nextStatus.name(), LocalDateTime.now())
+                .orElseThrow(() -> taskRepository.existsById(id)
+                        ? new ConflictException("Task status was changed by another request, reload the task and retry")
+                        : new NotFoundException("Task not found with ID: " + id));
+        taskStatsService.recordStatusChange(updatedTask, currentStatus);
+        projectService.markChanged(List.of(state.getProjectId()));
         logger.info("Task status updated to {} for ID: {}", nextStatus, id);
 
         return taskMapper.toReadDto(updatedTask);
@@ -0,0 +1,155 @@
+package com.projectmanager.service;
+
+import com.projectmanager.dto.project.ProjectStatsDto;
+import com.projectmanager.dto.project.ProjectStepStatsDto;
+import com.projectmanager.entity.Task;
+import com.projectmanager.entity.TaskStatus;
+import com.projectmanager.entity.TaskStatusCount;
+import com.projectmanager.repository.StepRepository;
+import com.projectmanager.repository.TaskStatusCountRepository;
+import com.projectmanager.repository.projection.StepView;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Maintains the per-step, per-status task counters. Counter changes join the caller's transaction and are
+ * applied as atomic upserts, always in (step, status) order so that concurrent transactions touching the
+ * same rows cannot deadlock.
+ */
+@Service
+public class TaskStatsService {
+
+    private static final Comparator<CounterKey> COUNTER_ORDER = Comparator
+            .comparing(CounterKey::stepId)
+            .thenComparing(key -> key.status().name());
+
+    private final TaskStatusCountRepository taskStatusCountRepository;
+    private final StepRepository stepRepository;
+    private final ProjectService projectService;
+
+    public TaskStatsService(TaskStatusCountRepository taskStatusCountRepository, StepRepository stepRepository,
+                            ProjectService projectService) {
+        this.taskStatusCountRepository = taskStatusCountRepository;
+        this.stepRepository = stepRepository;
+        this.projectService = projectService;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Collection<Task> tasks) {
+        Map<CounterKey, Long> deltas = new TreeMap<>(COUNTER_ORDER);
+        for (Task task : tasks) {
+            addDelta(deltas, task, task.getStatus(), 1);
+        }
+        applyDeltas(deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Task task) {
+        Map<CounterKey, Long> deltas = new TreeMap<>(COUNTER_ORDER);
+        addDelta(deltas, task, task.getStatus(), -1);
+        applyDeltas(deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(Task task, TaskStatus previousStatus) {
+        Map<Task, TaskStatus> previousStatuses = new IdentityHashMap<>();
+        previousStatuses.put(task, previousStatus);
+        recordStatusChanges(previousStatuses);
+    }
+
+    /**
+     * Expects an identity map, since task equality covers mutable fields.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChanges(Map<Task, TaskStatus> previousStatuses) {
+        Map<CounterKey, Long> deltas = new TreeMap<>(COUNTER_ORDER);
+        previousStatuses.forEach((task, previousStatus) -> {
+            if (previousStatus != task.getStatus()) {
+                addDelta(deltas, task, previousStatus, -1);
+                addDelta(deltas, task, task.getStatus(), 1);
+            }
+        });
+        applyDeltas(deltas);
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectStatsDto getProjectStats(UUID projectId, UUID currentUserId) {
+        projectService.verifyMembership(projectId, currentUserId, "You are not authorized to view this project");
+
+        Map<UUID, Map<TaskStatus, Long>> countsByStep = new HashMap<>();
+        Map<TaskStatus, Long> totals = emptyCounts();
+        for (TaskStatusCount count : taskStatusCountRepository.findByProjectId(projectId)) {
+            TaskStatus status = count.getId().getStatus();
+            countsByStep.computeIfAbsent(count.getId().getStepId(), stepId -> emptyCounts())
+                    .merge(status, count.getTaskCount(), Long::sum);
+        }
+
+        List<ProjectStepStatsDto> steps = new ArrayList<>();
+        for (StepView step : stepRepository.findViewsByProjectId(projectId)) {
+            ProjectStepStatsDto stepStats = new ProjectStepStatsDto();
+            stepStats.setStepId(step.getId());
+            stepStats.setName(step.getName());
+            stepStats.setCounts(countsByStep.getOrDefault(step.getId(), emptyCounts()));
+            stepStats.getCounts().forEach((status, count) -> totals.merge(status, count, Long::sum));
+            steps.add(stepStats);
+        }
+
+        ProjectStatsDto stats = new ProjectStatsDto();
+        stats.setProjectId(projectId);
+        stats.setTotals(totals);
+        stats.setSteps(steps);
+        return stats;
+    }
+
+    /**
+     * Recomputes the counters of one project from the tasks table and returns the number of corrected rows.
+     * Existing counter rows are locked first, so writers that commit during the recount are either included
+     * in it or apply their increment after it.
+     */
+    @Transactional
+    public int reconcileProject(UUID projectId) {
+        taskStatusCountRepository.lockByProjectId(projectId);
+        int corrected = taskStatusCountRepository.reconcileByProjectId(projectId);
+        return corrected + taskStatusCountRepository.deleteStaleByProjectId(projectId);
+    }
+
+    private void addDelta(Map<CounterKey, Long> deltas, Task task, TaskStatus status, long delta) {
+        if (status == null) {
+            return;
+        }
+        CounterKey key = new CounterKey(task.getStep().getProject().getId(), task.getStep().getId(), status);
+        deltas.merge(key, delta, Long::sum);
+    }
+
+    private void applyDeltas(Map<CounterKey, Long> deltas) {
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                taskStatusCountRepository.increment(key.projectId(), key.stepId(), key.status().name(), delta);
+            }
+        });
+    }
+
+    private static Map<TaskStatus, Long> emptyCounts() {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+
+    private record CounterKey(UUID projectId, UUID stepId, TaskStatus status) {
+    }
+
+}
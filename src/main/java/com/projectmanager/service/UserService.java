@@ -1,28 +1,46 @@
 package com.projectmanager.service;
 
+import com.projectmanager.dto.page.CursorPageDto;
+import com.projectmanager.dto.page.PageMode;
 import com.projectmanager.dto.user.UserCreateDto;
 import com.projectmanager.dto.user.UserReadDto;
 import com.projectmanager.dto.user.UserUpdateDto;
+import com.projectmanager.entity.Project;
 import com.projectmanager.entity.Role;
+import com.projectmanager.entity.TokenPurpose;
 import com.projectmanager.entity.User;
 import com.projectmanager.exception.BadRequestException;
 import com.projectmanager.exception.NotFoundException;
 import com.projectmanager.exception.UnauthorizedException;
 import com.projectmanager.mapper.UserMapper;
+import com.projectmanager.repository.ProjectRepository;
 import com.projectmanager.repository.UserRepository;
+import com.projectmanager.repository.projection.UserView;
+import com.projectmanager.security.ProjectMembershipCache;
+import com.projectmanager.security.TokenStore;
+import com.projectmanager.specification.KeysetSpecification;
 import com.projectmanager.specification.UserSpecification;
+import com.projectmanager.util.CursorUtil;
 import com.projectmanager.util.RandomUtil;
-import jakarta.mail.MessagingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.HashMap;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class UserService {
@@ -33,83 +51,124 @@ public class UserService {
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
-    private final Map<String, String> verificationTokenStore = new HashMap<>(); // Temporary in-memory store for verification tokens
+    private final ProjectMembershipCache projectMembershipCache;
+    private final TokenStore tokenStore;
+    private final ProjectRepository projectRepository;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectChangeTracker projectChangeTracker;
+
+    @Value("${app.tokens.verification-ttl:86400000}")
+    private long verificationTokenTtl;
 
     public UserService(UserRepository userRepository, UserMapper userMapper, 
-                       PasswordEncoder passwordEncoder, EmailService emailService) {
+                       PasswordEncoder passwordEncoder, EmailService emailService,
+                       ProjectMembershipCache projectMembershipCache, TokenStore tokenStore,
+                       ProjectRepository projectRepository, SecondLevelCacheEvictor secondLevelCacheEvictor,
+                       TransactionTemplate transactionTemplate, ProjectChangeTracker projectChangeTracker) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.passwordEncoder = passwordEncoder;
         this.emailService = emailService;
+        this.projectMembershipCache = projectMembershipCache;
+        this.tokenStore = tokenStore;
+        this.projectRepository = projectRepository;
+        this.secondLevelCacheEvictor = secondLevelCacheEvictor;
+        this.transactionTemplate = transactionTemplate;
+        this.projectChangeTracker = projectChangeTracker;
     }
 
-    public UserReadDto createUser(UserCreateDto dto, String baseUrl) throws MessagingException {
+    // Hashes before opening the write transaction so no connection is held while BCrypt runs
+    public UserReadDto createUser(UserCreateDto dto, String baseUrl) {
         if (userRepository.existsByEmail(dto.getEmail())) {
             throw new BadRequestException("Email already exists");
         }
 
         User user = userMapper.toEntity(dto);
         user.setId(UUID.randomUUID());
-        user.setPassword(passwordEncoder.encode(dto.getPassword()));
+        user.setPassword(encodePassword(dto.getPassword()));
         user.setRole(Role.USER);
         user.setEmailVerified(false);
         user.setDeleted(false);
 
-        User savedUser = userRepository.save(user);
+        User savedUser = transactionTemplate.execute(status -> {
+            User saved = userRepository.save(user);
+            String verificationToken = RandomUtil.generateRandomString(32);
+            tokenStore.save(TokenPurpose.EMAIL_VERIFICATION, verificationToken, saved.getEmail(), Duration.ofMillis(verificationTokenTtl));
+            emailService.sendVerificationEmail(saved.getEmail(), verificationToken, baseUrl);
+            return saved;
+        });
         logger.info("User created with ID: {}", savedUser.getId());
-
-        String verificationToken = RandomUtil.generateRandomString(32);
-        verificationTokenStore.put(verificationToken, savedUser.getEmail());
-        emailService.sendVerificationEmail(savedUser.getEmail(), verificationToken, baseUrl);
-        logger.info("Verification email sent to: {}", savedUser.getEmail());
+        logger.info("Verification email queued for: {}", savedUser.getEmail());
 
         return userMapper.toReadDto(savedUser);
     }
 
+    @Transactional
     public UserReadDto verifyEmail(String token) {
-        String email = verificationTokenStore.get(token);
-        if (email == null) {
-            throw new NotFoundException("Invalid or expired verification token");
-        }
+        String email = tokenStore.consume(TokenPurpose.EMAIL_VERIFICATION, token)
+                .orElseThrow(() -> new NotFoundException("Invalid or expired verification token"));
 
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new NotFoundException("User not found with email: " + email));
 
         user.setEmailVerified(true);
         User updatedUser = userRepository.save(user);
-        verificationTokenStore.remove(token);
         logger.info("Email verified for user ID: {}", updatedUser.getId());
 
         return userMapper.toReadDto(updatedUser);
     }
 
+    @Transactional(readOnly = true)
     public UserReadDto getUserById(UUID id, UUID currentUserId, Role currentUserRole) {
         if (!currentUserId.equals(id) && currentUserRole != Role.ADMIN) {
             throw new UnauthorizedException("You are not authorized to view this user");
         }
 
-        User user = userRepository.findById(id)
+        UserView user = userRepository.findViewById(id)
                 .orElseThrow(() -> new NotFoundException("User not found with ID: " + id));
 
         return userMapper.toReadDto(user);
     }
 
-    public Page<UserReadDto> getAllUsers(Pageable pageable, String name, String email, 
+    @Transactional(readOnly = true)
+    public Slice<UserReadDto> getAllUsers(Pageable pageable, PageMode mode, String name, String email, 
                                          String role, Boolean emailVerified, 
                                          UUID currentUserId, Role currentUserRole) {
         if (currentUserRole != Role.ADMIN) {
             throw new UnauthorizedException("Only admins can view all users");
         }
 
-        var spec = UserSpecification.hasNameLike(name)
+        var spec = buildUserSpecification(name, email, role, emailVerified);
+
+        return userRepository.findAll(spec, pageable, mode, UserView.class)
+                .map(userMapper::toReadDto);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<UserReadDto> getAllUsersAfter(String after, int size, String name, String email,
+                                                       String role, Boolean emailVerified, Role currentUserRole) {
+        if (currentUserRole != Role.ADMIN) {
+            throw new UnauthorizedException("Only admins can view all users");
+        }
+        CursorUtil.validateSize(size);
+
+        CursorUtil.Cursor cursor = CursorUtil.decode(after);
+        var spec = buildUserSpecification(name, email, role, emailVerified)
+                .and(KeysetSpecification.isAfter(cursor.createdAt(), cursor.id()));
+
+        List<UserView> users = userRepository.findAll(spec, KeysetSpecification.SORT, 0, size + 1, UserView.class);
+        return CursorUtil.toCursorPage(users, size, UserView::getCreatedAt, UserView::getId, userMapper::toReadDto);
+    }
+
+    private Specification<User> buildUserSpecification(String name, String email, String role, Boolean emailVerified) {
+        return UserSpecification.hasNameLike(name)
                 .and(UserSpecification.hasEmailLike(email))
                 .and(UserSpecification.hasRole(role))
                 .and(UserSpecification.isEmailVerified(emailVerified));
-
-        return userRepository.findAll(spec, pageable)
-                .map(userMapper::toReadDto);
     }
 
+    @Transactional
     public UserReadDto updateUser(UUID id, UserUpdateDto dto, UUID currentUserId, Role currentUserRole) {
         if (!currentUserId.equals(id) && currentUserRole != Role.ADMIN) {
             throw new UnauthorizedException("You are not authorized to update this user");
@@ -120,11 +179,14 @@ public class UserService {
 
         userMapper.updateEntity(user, dto);
         User updatedUser = userRepository.save(user);
+        // Member summaries are part of the project board, so its ETag must change with them
+        projectChangeTracker.markChanged(projectRepository.findIdsByUserId(id));
         logger.info("User updated with ID: {}", updatedUser.getId());
 
         return userMapper.toReadDto(updatedUser);
     }
 
+    @Transactional
     public void deleteUser(UUID id, UUID currentUserId, Role currentUserRole) {
         if (!currentUserId.equals(id) && currentUserRole != Role.ADMIN) {
             throw new UnauthorizedException("You are not authorized to delete this user");
@@ -134,7 +196,13 @@ public class UserService {
                 .orElseThrow(() -> new NotFoundException("User not found with ID: " + id));
 
         user.setDeleted(true);
+        user.setDeletedAt(LocalDateTime.now());
         userRepository.save(user);
+        projectChangeTracker.markChanged(projectRepository.findIdsByUserId(id));
+        secondLevelCacheEvictor.evictAfterCommit(User.class, id);
+        // Cached member collections still reference the user
+        secondLevelCacheEvictor.evictCollectionAfterCommit(Project.class.getName() + ".users");
+        projectMembershipCache.invalidateAll();
         logger.info("User logically deleted with ID: {}", id);
     }
 
@@ -143,15 +211,26 @@ public class UserService {
                 .orElseThrow(() -> new NotFoundException("User not found with ID: " + id));
     }
 
+    public Map<UUID, User> getUserEntitiesByIds(Collection<UUID> ids) {
+        return userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
     public User getUserEntityByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new NotFoundException("User not found with email: " + email));
     }
 
-    public void updateUserPassword(UUID id, String newPassword) {
+    // Must be called outside any transaction: BCrypt is deliberately slow and would pin a pooled connection
+    public String encodePassword(String rawPassword) {
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    @Transactional
+    public void updateUserPasswordHash(UUID id, String passwordHash) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("User not found with ID: " + id));
-        user.setPassword(passwordEncoder.encode(newPassword));
+        user.setPassword(passwordHash);
         userRepository.save(user);
         logger.info("User password updated for ID: {}", id);
     }
@@ -0,0 +1,43 @@
+package com.projectmanager.specification;
+
+import com.projectmanager.entity.ArchivedTask;
+import com.projectmanager.entity.Step;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+public class ArchivedTaskSpecification {
+
+    public static Specification<ArchivedTask> hasProjectId(UUID projectId) {
+        return (root, query, cb) -> projectId == null ? cb.conjunction() : cb.equal(root.get("projectId"), projectId);
+    }
+
+    public static Specification<ArchivedTask> hasLiveStep() {
+        return (root, query, cb) -> {
+            Subquery<UUID> liveSteps = query.subquery(UUID.class);
+            Root<Step> step = liveSteps.from(Step.class);
+            liveSteps.select(step.get("id"))
+                    .where(cb.equal(step.get("project").get("id"), root.get("projectId")));
+            return root.get("stepId").in(liveSteps);
+        };
+    }
+
+    public static Specification<ArchivedTask> hasTitleLike(String title) {
+        return (root, query, cb) -> title == null ? cb.conjunction() : cb.like(root.get("title"), "%" + title + "%");
+    }
+
+    public static Specification<ArchivedTask> hasDescriptionLike(String description) {
+        return (root, query, cb) -> description == null ? cb.conjunction() : cb.like(root.get("description"), "%" + description + "%");
+    }
+
+    public static Specification<ArchivedTask> hasAssignedTo(UUID userId) {
+        return (root, query, cb) -> userId == null ? cb.conjunction() : cb.equal(root.get("assignedToId"), userId);
+    }
+
+    public static Specification<ArchivedTask> hasStepId(UUID stepId) {
+        return (root, query, cb) -> stepId == null ? cb.conjunction() : cb.equal(root.get("stepId"), stepId);
+    }
+
+}
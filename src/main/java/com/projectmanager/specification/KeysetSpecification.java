@@ -0,0 +1,30 @@
+package com.projectmanager.specification;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class KeysetSpecification {
+
+    public static final Sort SORT = Sort.by(Sort.Direction.ASC, "createdAt", "id");
+
+    public static <T> Specification<T> isAfter(LocalDateTime createdAt, UUID id) {
+        return (root, query, cb) -> {
+            if (createdAt == null || id == null) {
+                return cb.conjunction();
+            }
+            // The redundant createdAt >= bound is what the index scan starts from; Postgres does not derive a range
+            // condition from the OR alone and would read the index from the beginning
+            return cb.and(
+                    cb.greaterThanOrEqualTo(root.<LocalDateTime>get("createdAt"), createdAt),
+                    cb.or(
+                            cb.greaterThan(root.<LocalDateTime>get("createdAt"), createdAt),
+                            cb.and(
+                                    cb.equal(root.get("createdAt"), createdAt),
+                                    cb.greaterThan(root.<UUID>get("id"), id))));
+        };
+    }
+
+}
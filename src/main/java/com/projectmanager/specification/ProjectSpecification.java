@@ -1,6 +1,8 @@
 package com.projectmanager.specification;
 
 import com.projectmanager.entity.Project;
+import com.projectmanager.entity.User;
+import jakarta.persistence.criteria.Join;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.UUID;
@@ -16,7 +18,8 @@ public class ProjectSpecification {
             if (userId == null) {
                 return cb.conjunction();
             }
-            return cb.isMember(userId, root.get("users").get("id"));
+            Join<Project, User> users = root.join("users");
+            return cb.equal(users.get("id"), userId);
         };
     }
 
@@ -0,0 +1,64 @@
+package com.projectmanager.util;
+
+import com.projectmanager.dto.page.CursorPageDto;
+import com.projectmanager.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+public class CursorUtil {
+
+    private static final String SEPARATOR = "|";
+
+    public record Cursor(LocalDateTime createdAt, UUID id) {
+    }
+
+    public static String encode(LocalDateTime createdAt, UUID id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void validateSize(int size) {
+        if (size < 1) {
+            throw new BadRequestException("Page size must be greater than zero");
+        }
+    }
+
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new Cursor(null, null);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public static <T, R> CursorPageDto<R> toCursorPage(List<T> rows, int size, Function<T, LocalDateTime> createdAt,
+                                                       Function<T, UUID> id, Function<T, R> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+
+        CursorPageDto<R> page = new CursorPageDto<>();
+        page.setContent(content.stream().map(mapper).toList());
+        page.setSize(size);
+        page.setHasNext(hasNext);
+        if (hasNext) {
+            T last = content.get(content.size() - 1);
+            page.setNextCursor(encode(createdAt.apply(last), id.apply(last)));
+        }
+        return page;
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.projectmanager.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class EtagUtil {
+
+    public static String of(Object... parts) {
+        String raw = Arrays.stream(parts)
+                .map(Objects::toString)
+                .collect(Collectors.joining("|"));
+        return "\"" + TokenHashUtil.sha256Hex(raw).substring(0, 32) + "\"";
+    }
+
+}
@@ -0,0 +1,28 @@
+-- Refresh tokens are stored by their SHA-256 digest (token_hash) instead of in plaintext (token).
+-- Run once with psql before deploying the release that introduces token_hash: ddl-auto=update cannot add the
+-- NOT NULL column to a populated table and would leave the plaintext column behind. Existing tokens are hashed
+-- in place, so sessions stay valid. Safe to re-run, and a no-op on databases created after the change.
+BEGIN;
+
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS token_hash varchar(64);
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'refresh_tokens' AND column_name = 'token') THEN
+        DELETE FROM refresh_tokens WHERE token IS NULL AND token_hash IS NULL;
+        UPDATE refresh_tokens SET token_hash = encode(sha256(convert_to(token, 'UTF8')), 'hex') WHERE token_hash IS NULL;
+        ALTER TABLE refresh_tokens DROP COLUMN token;
+    END IF;
+END $$;
+
+-- Refresh tokens issued in the same second were identical before they carried a jti; keep the newest row of each
+DELETE FROM refresh_tokens r USING refresh_tokens newer
+WHERE r.token_hash = newer.token_hash
+  AND (coalesce(r.created_at, '-infinity'), r.id) < (coalesce(newer.created_at, '-infinity'), newer.id);
+
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_refresh_tokens_token_hash ON refresh_tokens (token_hash);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+
+COMMIT;
@@ -0,0 +1,45 @@
+-- Full-text search column and trigram indexes for tasks, previously created by the application at startup.
+-- Run with psql in autocommit mode (not inside BEGIN): the column is added without rewriting the table, kept
+-- current by a trigger, backfilled in small committed batches and indexed CONCURRENTLY, so tasks stay writable
+-- throughout. Safe to re-run. If an index build fails, drop the invalid index before running the script again.
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION tasks_search_vector() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.search_vector := setweight(to_tsvector('simple', coalesce(NEW.title, '')), 'A') ||
+                         setweight(to_tsvector('simple', coalesce(NEW.description, '')), 'B');
+    RETURN NEW;
+END $$;
+
+-- Databases that ran the former startup DDL have a generated column instead, which needs neither trigger nor backfill
+DO $$
+DECLARE
+    updated integer;
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'tasks' AND column_name = 'search_vector'
+                 AND is_generated = 'ALWAYS') THEN
+        RETURN;
+    END IF;
+
+    CREATE OR REPLACE TRIGGER tasks_search_vector BEFORE INSERT OR UPDATE OF title, description ON tasks
+        FOR EACH ROW EXECUTE FUNCTION tasks_search_vector();
+    COMMIT;
+
+    LOOP
+        UPDATE tasks SET search_vector = setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+                                         setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+        WHERE id IN (SELECT id FROM tasks WHERE search_vector IS NULL LIMIT 5000);
+        GET DIAGNOSTICS updated = ROW_COUNT;
+        EXIT WHEN updated = 0;
+        COMMIT;
+    END LOOP;
+END $$;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+-- Trigram indexes let the title and description substring filters use an index instead of a sequential scan
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_title_trgm ON tasks USING GIN (title gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_description_trgm ON tasks USING GIN (description gin_trgm_ops);
@@ -1,9 +1,9 @@
 package com.projectmanager;
 
+import com.projectmanager.support.IntegrationTest;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@IntegrationTest
 class ProjectmanagerApplicationTests {
 
 	@Test
@@ -0,0 +1,158 @@
+package com.projectmanager.config;
+
+import com.projectmanager.entity.TaskStatus;
+import com.projectmanager.support.LatencyRecorder;
+import com.projectmanager.support.TestFixtures;
+import com.projectmanager.support.TestMigrations;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the task list endpoint over HTTP with more concurrent clients than Tomcat's platform worker pool, once with
+ * virtual threads and once with platform threads, and prints throughput, p99 latency and the requests the
+ * concurrency limit rejected with 503. The clients share the JVM and CPU with the server, so compare the two runs
+ * with each other rather than with production numbers. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class ThreadModelLoadBenchmarkTest {
+
+    private static final int CLIENTS = 300;
+    private static final int WARMUP_REQUESTS = 1_000;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int TASKS = 50;
+
+    private static final Map<String, String> RESULTS = new ConcurrentSkipListMap<>();
+
+    @AfterAll
+    static void compare() {
+        RESULTS.values().forEach(System.out::println);
+    }
+
+    @Nested
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    class VirtualThreads extends LoadRun {
+
+        @Test
+        void taskList() throws Exception {
+            run("virtual threads");
+        }
+
+    }
+
+    @Nested
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+    class PlatformThreads extends LoadRun {
+
+        @Test
+        void taskList() throws Exception {
+            run("platform threads");
+        }
+
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+    @AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+    @Import({TestMigrations.class, TestFixtures.class})
+    abstract static class LoadRun {
+
+        @LocalServerPort
+        private int port;
+
+        @Value("${app.concurrency-limit.max-concurrent-requests:40}")
+        private int concurrencyLimit;
+
+        @Autowired
+        private TestFixtures fixtures;
+
+        void run(String mode) throws Exception {
+            UUID user = fixtures.user("Load");
+            UUID project = fixtures.project("Load", user);
+            UUID step = fixtures.step(project, "Backlog");
+            for (int i = 0; i < TASKS; i++) {
+                fixtures.task(step, "Task " + i, TaskStatus.values()[i % 3], user);
+            }
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/project/" + project + "?size=20"))
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + fixtures.accessToken(user))
+                    .GET()
+                    .build();
+
+            try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+                load(client, request, WARMUP_REQUESTS / CLIENTS);
+
+                long start = System.nanoTime();
+                Load load = load(client, request, REQUESTS_PER_CLIENT);
+                double seconds = (System.nanoTime() - start) / 1e9;
+
+                assertThat(load.ok() + load.rejected()).isEqualTo(CLIENTS * REQUESTS_PER_CLIENT);
+                assertThat(load.ok()).isPositive();
+                RESULTS.put(mode, String.format("%s, %d clients, limit %d: %.0f req/s, %d rejected, %s", mode, CLIENTS,
+                        concurrencyLimit, load.ok() / seconds, load.rejected(), load.latencies().summary("successful requests")));
+            }
+        }
+
+        // Each client sends its requests back to back; latencies of rejected requests are left out
+        private static Load load(HttpClient client, HttpRequest request, int requestsPerClient) throws Exception {
+            AtomicInteger rejected = new AtomicInteger();
+            List<Future<LatencyRecorder>> clients = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int c = 0; c < CLIENTS; c++) {
+                    clients.add(executor.submit(() -> {
+                        LatencyRecorder recorder = new LatencyRecorder();
+                        for (int i = 0; i < requestsPerClient; i++) {
+                            long sent = System.nanoTime();
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status == 503) {
+                                rejected.incrementAndGet();
+                            } else {
+                                assertThat(status).isEqualTo(200);
+                                recorder.record(System.nanoTime() - sent);
+                            }
+                        }
+                        return recorder;
+                    }));
+                }
+            }
+            LatencyRecorder latencies = new LatencyRecorder();
+            for (Future<LatencyRecorder> recorder : clients) {
+                latencies.merge(recorder.get());
+            }
+            return new Load(latencies, rejected.get());
+        }
+
+    }
+
+    private record Load(LatencyRecorder latencies, int rejected) {
+
+        int ok() {
+            return latencies.count();
+        }
+
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.projectmanager.controller;
+
+import com.projectmanager.support.IntegrationTest;
+import com.projectmanager.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code mode=ESTIMATED} counts at most 1,000 rows past the page offset and flags the total when it stopped there.
+ */
+@IntegrationTest
+class EstimatedPageTest {
+
+    private static final int COUNT_LIMIT = 1_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void flagsTheTotalOnlyWhenCountingStoppedAtTheLimit() throws Exception {
+        UUID user = fixtures.user("Estimator");
+        UUID project = fixtures.project("Estimated", user);
+        UUID step = fixtures.step(project, "Backlog");
+        seed(project, step, COUNT_LIMIT);
+
+        // Exactly at the limit the count is still exact
+        list(user, project, 0).andExpect(jsonPath("$.totalElements").value(COUNT_LIMIT))
+                .andExpect(jsonPath("$.totalCapped").value(false));
+
+        seed(project, step, 50);
+        list(user, project, 0).andExpect(jsonPath("$.totalElements").value(COUNT_LIMIT))
+                .andExpect(jsonPath("$.totalCapped").value(true));
+        // Counting restarts at the page offset, so a later page sees the rest
+        list(user, project, 5).andExpect(jsonPath("$.totalElements").value(COUNT_LIMIT + 50))
+                .andExpect(jsonPath("$.totalCapped").value(false));
+    }
+
+    private ResultActions list(UUID userId, UUID projectId, int page) throws Exception {
+        return mockMvc.perform(get("/api/tasks/project/{id}?mode=ESTIMATED&size=20&page={page}", projectId, page)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + fixtures.accessToken(userId)))
+                .andExpect(status().isOk());
+    }
+
+    // Bumps the change version as the services would, so the task list cache does not serve the previous page
+    private void seed(UUID projectId, UUID stepId, int count) {
+        jdbcTemplate.update("INSERT INTO tasks (id, title, description, step_id, status, deleted, version, created_at, updated_at) " +
+                "SELECT gen_random_uuid(), 'Task ' || n, 'Seeded task', ?, 'TODO', false, 0, now(), now() " +
+                "FROM generate_series(1, ?) n", stepId, count);
+        jdbcTemplate.update("UPDATE projects SET change_version = change_version + 1 WHERE id = ?", projectId);
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.projectmanager.controller;
+
+import com.projectmanager.entity.TaskStatus;
+import com.projectmanager.security.ProjectMembershipCache;
+import com.projectmanager.support.IntegrationTest;
+import com.projectmanager.support.SqlStatementCounter;
+import com.projectmanager.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Asserts the exact number of SQL statements behind the list and detail endpoints, once for a one-row page and once
+ * for a page of many rows, so a per-row lookup shows up as a growing count. Pages are smaller than the data so the
+ * count query always runs, the second-level cache is evicted before each request and project membership is cached
+ * beforehand, since it is shared by every project-scoped request.
+ */
+@IntegrationTest
+class ListEndpointStatementCountTest {
+
+    private static final int ROWS = 30;
+    private static final int PAGE = 25;
+
+    // Change version for the ETag and again for the cache key, then the page and its count
+    private static final int TASK_LIST_STATEMENTS = 4;
+
+    // Change version for the ETag, then the page and its count
+    private static final int STEP_LIST_STATEMENTS = 3;
+
+    // The page, its count, then the member ids of every project on the page
+    private static final int PROJECT_LIST_STATEMENTS = 3;
+
+    // Change version for the ETag, the project, then its member ids
+    private static final int PROJECT_DETAIL_STATEMENTS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ProjectMembershipCache projectMembershipCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void taskAndStepListsDoNotGrowWithThePage() throws Exception {
+        UUID user = fixtures.user("Lister");
+        UUID project = fixtures.project("Paged", user);
+        for (int i = 0; i < ROWS; i++) {
+            UUID assignee = fixtures.user("Assignee " + i);
+            fixtures.addMember(project, assignee);
+            fixtures.task(fixtures.step(project, "Step " + i), "Task " + i, TaskStatus.values()[i % 3], assignee);
+        }
+        projectMembershipCache.isMember(project, user);
+
+        assertThat(statements(user, "/api/tasks/project/{id}?size=1", project, 1)).isEqualTo(TASK_LIST_STATEMENTS);
+        assertThat(statements(user, "/api/tasks/project/{id}?size=" + PAGE, project, PAGE)).isEqualTo(TASK_LIST_STATEMENTS);
+        assertThat(statements(user, "/api/steps/project/{id}?size=1", project, 1)).isEqualTo(STEP_LIST_STATEMENTS);
+        assertThat(statements(user, "/api/steps/project/{id}?size=" + PAGE, project, PAGE)).isEqualTo(STEP_LIST_STATEMENTS);
+    }
+
+    @Test
+    void projectListAndDetailDoNotGrowWithProjectsOrMembers() throws Exception {
+        UUID user = fixtures.user("Many projects");
+        UUID alone = fixtures.project("Alone", user);
+        UUID crowded = null;
+        for (int i = 0; i < ROWS; i++) {
+            crowded = fixtures.project("Project " + i, user);
+            for (int m = 0; m < 3; m++) {
+                fixtures.addMember(crowded, fixtures.user("Member " + i + "-" + m));
+            }
+        }
+        projectMembershipCache.isMember(alone, user);
+        projectMembershipCache.isMember(crowded, user);
+
+        assertThat(statements(user, "/api/projects?size=1", null, 1)).isEqualTo(PROJECT_LIST_STATEMENTS);
+        assertThat(statements(user, "/api/projects?size=" + PAGE, null, PAGE)).isEqualTo(PROJECT_LIST_STATEMENTS);
+        assertThat(statements(user, "/api/projects/{id}", alone, -1)).isEqualTo(PROJECT_DETAIL_STATEMENTS);
+        assertThat(statements(user, "/api/projects/{id}", crowded, -1)).isEqualTo(PROJECT_DETAIL_STATEMENTS);
+    }
+
+    private int statements(UUID userId, String uri, UUID id, int expectedRows) throws Exception {
+        entityManagerFactory.getCache().evictAll();
+        String token = fixtures.accessToken(userId);
+        Object[] variables = id == null ? new Object[0] : new Object[]{id};
+        return SqlStatementCounter.record(() -> {
+            var result = mockMvc.perform(get(uri, variables).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().isOk());
+            if (expectedRows >= 0) {
+                result.andExpect(jsonPath("$.content.length()").value(expectedRows));
+            }
+        }).size();
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.projectmanager.controller;
+
+import com.projectmanager.entity.TaskStatus;
+import com.projectmanager.support.IntegrationTest;
+import com.projectmanager.support.SqlStatementCounter;
+import com.projectmanager.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+class ProjectBoardStatementCountTest {
+
+    // ETag version lookup, membership check, then project, tasks, steps and members
+    private static final int BOARD_STATEMENTS = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void boardStatementCountDoesNotGrowWithTheBoard() throws Exception {
+        UUID owner = fixtures.user("Board owner");
+        UUID small = fixtures.project("Small board", owner);
+        fixtures.task(fixtures.step(small, "Only step"), "Only task", TaskStatus.TODO, owner);
+
+        UUID large = fixtures.project("Large board", owner);
+        for (int s = 0; s < 20; s++) {
+            UUID step = fixtures.step(large, "Step " + s);
+            for (int t = 0; t < 25; t++) {
+                UUID assignee = fixtures.user("Member " + s + "-" + t);
+                fixtures.addMember(large, assignee);
+                fixtures.task(step, "Task " + s + "-" + t, TaskStatus.values()[t % TaskStatus.values().length], assignee);
+            }
+        }
+
+        List<String> smallBoard = boardStatements(small, owner, 1);
+        List<String> largeBoard = boardStatements(large, owner, 20);
+
+        assertThat(smallBoard).hasSize(BOARD_STATEMENTS);
+        assertThat(largeBoard).hasSize(BOARD_STATEMENTS);
+    }
+
+    private List<String> boardStatements(UUID projectId, UUID userId, int steps) throws Exception {
+        // Nothing may come from the second-level cache, otherwise a per-row lookup could hide behind cache hits
+        entityManagerFactory.getCache().evictAll();
+        String token = fixtures.accessToken(userId);
+        return SqlStatementCounter.record(() -> mockMvc.perform(get("/api/projects/{id}/board", projectId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.steps.length()").value(steps)));
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.projectmanager.job;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.projectmanager.service.EmailOutboxService;
+import com.projectmanager.support.IntegrationTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Delivers the outbox through an in-process SMTP server on the port the test properties point at. With the server
+ * stopped, connections are refused, which the dispatcher treats like any transient SMTP failure.
+ */
+@IntegrationTest
+class EmailOutboxDispatcherTest {
+
+    private static final long RETRY_DELAY = 60_000;
+
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private GreenMail smtpServer;
+
+    @AfterEach
+    void stopSmtpServer() {
+        if (smtpServer != null) {
+            smtpServer.stop();
+        }
+    }
+
+    @Test
+    void deliversQueuedEmail() throws Exception {
+        startSmtpServer();
+        String recipient = recipient();
+        emailOutboxService.enqueue(recipient, "Welcome", "<p>Hello</p>");
+
+        dispatcher.dispatch();
+
+        Map<String, Object> message = message(recipient);
+        assertThat(message.get("status")).isEqualTo("SENT");
+        assertThat(message.get("attempts")).isEqualTo(1);
+        assertThat(message.get("sent_at")).isNotNull();
+        MimeMessage[] received = smtpServer.getReceivedMessagesForDomain(recipient);
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getSubject()).isEqualTo("Welcome");
+    }
+
+    @Test
+    void retriesWithBackoffUntilTheServerIsBack() {
+        String recipient = recipient();
+        emailOutboxService.enqueue(recipient, "Retry", "<p>Hello</p>");
+        long retryDelay = (long) ReflectionTestUtils.getField(emailOutboxService, "retryDelay");
+        ReflectionTestUtils.setField(emailOutboxService, "retryDelay", RETRY_DELAY);
+        try {
+            assertRetryScheduled(recipient, 1, RETRY_DELAY);
+            makeDue(recipient);
+            assertRetryScheduled(recipient, 2, RETRY_DELAY * 2);
+        } finally {
+            ReflectionTestUtils.setField(emailOutboxService, "retryDelay", retryDelay);
+        }
+
+        // Not due yet, so the restarted server must not see it before the backoff has passed
+        startSmtpServer();
+        dispatcher.dispatch();
+        assertThat(smtpServer.getReceivedMessagesForDomain(recipient)).isEmpty();
+
+        makeDue(recipient);
+        dispatcher.dispatch();
+        assertThat(message(recipient).get("status")).isEqualTo("SENT");
+        assertThat(message(recipient).get("attempts")).isEqualTo(3);
+        assertThat(smtpServer.getReceivedMessagesForDomain(recipient)).hasSize(1);
+    }
+
+    @Test
+    void failsPermanentlyAfterTheMaximumAttempts() {
+        String recipient = recipient();
+        emailOutboxService.enqueue(recipient, "Never", "<p>Hello</p>");
+        int maxAttempts = (int) ReflectionTestUtils.getField(emailOutboxService, "maxAttempts");
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            makeDue(recipient);
+            dispatcher.dispatch();
+            assertThat(message(recipient).get("attempts")).isEqualTo(attempt);
+        }
+        assertThat(message(recipient).get("status")).isEqualTo("FAILED");
+
+        // A failed message is never claimed again
+        makeDue(recipient);
+        startSmtpServer();
+        dispatcher.dispatch();
+        assertThat(message(recipient).get("attempts")).isEqualTo(maxAttempts);
+        assertThat(smtpServer.getReceivedMessagesForDomain(recipient)).isEmpty();
+    }
+
+    private void assertRetryScheduled(String recipient, int attempts, long backoff) {
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatch();
+        LocalDateTime after = LocalDateTime.now();
+
+        Map<String, Object> message = message(recipient);
+        assertThat(message.get("status")).isEqualTo("PENDING");
+        assertThat(message.get("attempts")).isEqualTo(attempts);
+        assertThat(message.get("last_error")).isNotNull();
+        assertThat(((Timestamp) message.get("next_attempt_at")).toLocalDateTime())
+                .isBetween(before.plusNanos(backoff * 1_000_000), after.plusNanos(backoff * 1_000_000));
+    }
+
+    private void startSmtpServer() {
+        smtpServer = new GreenMail(ServerSetupTest.SMTP);
+        smtpServer.start();
+    }
+
+    private void makeDue(String recipient) {
+        jdbcTemplate.update("UPDATE email_outbox SET next_attempt_at = now() - interval '1 second' WHERE recipient = ?", recipient);
+    }
+
+    private Map<String, Object> message(String recipient) {
+        return jdbcTemplate.queryForMap("SELECT status, attempts, last_error, next_attempt_at, sent_at FROM email_outbox " +
+                "WHERE recipient = ?", recipient);
+    }
+
+    private static String recipient() {
+        return UUID.randomUUID() + "@example.com";
+    }
+
+}
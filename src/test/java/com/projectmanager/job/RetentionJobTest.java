@@ -0,0 +1,138 @@
+package com.projectmanager.job;
+
+import com.projectmanager.entity.TaskStatus;
+import com.projectmanager.repository.ProjectRepository;
+import com.projectmanager.repository.StepRepository;
+import com.projectmanager.support.IntegrationTest;
+import com.projectmanager.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class RetentionJobTest {
+
+    @Autowired
+    private RetentionJob retentionJob;
+
+    @Autowired
+    private StepRepository stepRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void removesSentOutboxEmailsOlderThanTheRetentionPeriod() {
+        UUID oldSent = outboxMessage("SENT", LocalDateTime.now().minusDays(40));
+        UUID recentSent = outboxMessage("SENT", LocalDateTime.now().minusDays(1));
+        UUID failed = outboxMessage("FAILED", null);
+
+        retentionJob.purge();
+
+        assertThat(exists(oldSent)).isFalse();
+        assertThat(exists(recentSent)).isTrue();
+        assertThat(exists(failed)).isTrue();
+    }
+
+    @Test
+    void dryRunCountsSkipParentsThatStillHaveChildren() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+        long steps = stepRepository.countPurgeable(cutoff);
+        long projects = projectRepository.countPurgeable(cutoff);
+
+        UUID withSteps = fixtures.project("Deleted with steps");
+        UUID stepWithTask = fixtures.step(withSteps, "Deleted with tasks");
+        fixtures.task(stepWithTask, "Not purged yet", TaskStatus.TODO, null);
+        UUID emptyStep = fixtures.step(withSteps, "Deleted and empty");
+        UUID emptyProject = fixtures.project("Deleted and empty");
+        jdbcTemplate.update("UPDATE projects SET deleted = true, deleted_at = ? WHERE id IN (?, ?)",
+                Timestamp.valueOf(cutoff.minusDays(1)), withSteps, emptyProject);
+        jdbcTemplate.update("UPDATE steps SET deleted = true, deleted_at = ? WHERE id IN (?, ?)",
+                Timestamp.valueOf(cutoff.minusDays(1)), stepWithTask, emptyStep);
+
+        assertThat(stepRepository.countPurgeable(cutoff)).isEqualTo(steps + 1);
+        assertThat(projectRepository.countPurgeable(cutoff)).isEqualTo(projects + 1);
+    }
+
+    @Test
+    void purgesExpiredChainsAndClearsReferencesToPurgedUsers() {
+        Timestamp expired = Timestamp.valueOf(LocalDateTime.now().minusDays(40));
+
+        UUID owner = fixtures.user("Owner");
+        UUID leaver = fixtures.user("Leaver");
+        UUID liveProject = fixtures.project("Live", owner, leaver);
+        UUID liveStep = fixtures.step(liveProject, "Backlog");
+        UUID assignedTask = fixtures.task(liveStep, "Assigned to the leaver", TaskStatus.TODO, leaver);
+        UUID archivedTask = archivedTask(liveStep, liveProject, leaver);
+        jdbcTemplate.update("INSERT INTO refresh_tokens (id, token_hash, user_id, revoked, created_at, expires_at) " +
+                "VALUES (?, ?, ?, false, now(), now() + interval '7 days')", UUID.randomUUID(), "a".repeat(64), leaver);
+        jdbcTemplate.update("UPDATE users SET deleted = true, deleted_at = ? WHERE id = ?", expired, leaver);
+        long versionBefore = changeVersion(liveProject);
+
+        UUID deletedProject = fixtures.project("Deleted", owner);
+        UUID deletedStep = fixtures.step(deletedProject, "Deleted");
+        UUID deletedTask = fixtures.task(deletedStep, "Deleted", TaskStatus.DONE, owner);
+        UUID deletedArchivedTask = archivedTask(deletedStep, deletedProject, owner);
+        jdbcTemplate.update("UPDATE tasks SET deleted = true, deleted_at = ? WHERE id = ?", expired, deletedTask);
+        jdbcTemplate.update("UPDATE steps SET deleted = true, deleted_at = ? WHERE id = ?", expired, deletedStep);
+        jdbcTemplate.update("UPDATE projects SET deleted = true, deleted_at = ? WHERE id = ?", expired, deletedProject);
+
+        retentionJob.purge();
+
+        assertThat(count("users", "id", leaver)).isZero();
+        assertThat(count("project_users", "user_id", leaver)).isZero();
+        assertThat(count("refresh_tokens", "user_id", leaver)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT assigned_to FROM tasks WHERE id = ?", UUID.class, assignedTask)).isNull();
+        assertThat(jdbcTemplate.queryForObject("SELECT assigned_to FROM archived_tasks WHERE id = ?", UUID.class, archivedTask)).isNull();
+        assertThat(changeVersion(liveProject)).isGreaterThan(versionBefore);
+        assertThat(count("users", "id", owner)).isOne();
+
+        assertThat(count("archived_tasks", "id", deletedArchivedTask)).isZero();
+        assertThat(count("tasks", "id", deletedTask)).isZero();
+        assertThat(count("steps", "id", deletedStep)).isZero();
+        assertThat(count("projects", "id", deletedProject)).isZero();
+        assertThat(count("project_users", "project_id", deletedProject)).isZero();
+    }
+
+    private UUID archivedTask(UUID stepId, UUID projectId, UUID assignedTo) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO archived_tasks (id, title, description, assigned_to, step_id, project_id, status, " +
+                "created_at, updated_at, archived_at) VALUES (?, 'Archived', 'Archived task', ?, ?, ?, 'DONE', now(), now(), now())",
+                id, assignedTo, stepId, projectId);
+        return id;
+    }
+
+    private long changeVersion(UUID projectId) {
+        return jdbcTemplate.queryForObject("SELECT change_version FROM projects WHERE id = ?", Long.class, projectId);
+    }
+
+    private long count(String table, String column, UUID id) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table + " WHERE " + column + " = ?", Long.class, id);
+    }
+
+    private UUID outboxMessage(String status, LocalDateTime sentAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO email_outbox (id, recipient, subject, body, status, attempts, next_attempt_at, " +
+                        "created_at, sent_at) VALUES (?, 'someone@example.com', 'Subject', 'Body', ?, 1, ?, ?, ?)",
+                id, status, Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(LocalDateTime.now().minusDays(41)),
+                sentAt == null ? null : Timestamp.valueOf(sentAt));
+        return id;
+    }
+
+    private boolean exists(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM email_outbox WHERE id = ?", Long.class, id) > 0;
+    }
+
+}
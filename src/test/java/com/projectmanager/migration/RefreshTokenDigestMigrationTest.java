@@ -0,0 +1,55 @@
+package com.projectmanager.migration;
+
+import com.projectmanager.util.TokenHashUtil;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the migration against a refresh_tokens table in its pre-digest shape.
+ */
+class RefreshTokenDigestMigrationTest {
+
+    @Test
+    void hashesExistingTokensAndDropsThePlaintextColumn() throws Exception {
+        String script = new ClassPathResource("db/migrations/001_refresh_token_digest.sql")
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.start();
+             Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE refresh_tokens (id uuid PRIMARY KEY, token varchar(255) UNIQUE, user_id uuid, " +
+                    "revoked boolean NOT NULL, created_at timestamp, expires_at timestamp)");
+            statement.execute("INSERT INTO refresh_tokens VALUES " +
+                    "(gen_random_uuid(), 'first', NULL, false, now(), now() + interval '7 days'), " +
+                    "(gen_random_uuid(), 'second', NULL, false, NULL, now() + interval '7 days'), " +
+                    "(gen_random_uuid(), NULL, NULL, false, now(), now())");
+
+            statement.execute(script);
+            statement.execute(script);
+
+            assertThat(strings(statement.executeQuery("SELECT token_hash FROM refresh_tokens")))
+                    .containsExactlyInAnyOrder(TokenHashUtil.sha256Hex("first"), TokenHashUtil.sha256Hex("second"));
+            assertThat(strings(statement.executeQuery("SELECT column_name FROM information_schema.columns " +
+                    "WHERE table_name = 'refresh_tokens'"))).doesNotContain("token").contains("token_hash");
+        }
+    }
+
+    private static List<String> strings(ResultSet resultSet) throws Exception {
+        List<String> values = new ArrayList<>();
+        while (resultSet.next()) {
+            values.add(resultSet.getString(1));
+        }
+        return values;
+    }
+
+}
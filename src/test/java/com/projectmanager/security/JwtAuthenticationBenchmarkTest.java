@@ -0,0 +1,101 @@
+package com.projectmanager.security;
+
+import com.projectmanager.entity.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the authentication filter per request: three verifications as the filter used to do (with today's
+ * prebuilt parser, so the old cost was higher still), a single verification, and a
+ * verified-token cache hit. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class JwtAuthenticationBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void filterPath() throws Exception {
+        JwtTokenProvider uncached = provider(false);
+        JwtTokenProvider cached = provider(true);
+        UUID userId = UUID.randomUUID();
+        String token = uncached.generateAccessToken(userId, Role.USER);
+
+        double threeParses = nanosPerOp(() -> threeVerifications(uncached, token));
+        double singleParse = nanosPerFilterCall(new JwtAuthenticationFilter(uncached), token);
+        double cacheHit = nanosPerFilterCall(new JwtAuthenticationFilter(cached), token);
+
+        assertThat(cached.authenticate(token)).get().extracting(JwtPrincipal::userId).isEqualTo(userId);
+        System.out.printf("three verifications per request: %.0f ns/op%n", threeParses);
+        System.out.printf("filter, single verification:     %.0f ns/op%n", singleParse);
+        System.out.printf("filter, verified-token cache:    %.0f ns/op%n", cacheHit);
+    }
+
+    // The filter's old path: validate, then parse again for the user id and once more for the role
+    private static void threeVerifications(JwtTokenProvider provider, String token) {
+        try {
+            provider.getClaimsFromToken(token);
+        } catch (Exception e) {
+            return;
+        }
+        UUID.fromString(provider.getClaimsFromToken(token).getSubject());
+        Role.valueOf((String) provider.getClaimsFromToken(token).get("role"));
+    }
+
+    private double nanosPerFilterCall(JwtAuthenticationFilter filter, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.addHeader("Authorization", "Bearer " + token);
+        return nanosPerOp(() -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            FilterChain chain = new MockFilterChain();
+            try {
+                filter.doFilter(request, response, chain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            request.removeAttribute(filter.getClass().getName() + ".FILTERED");
+            SecurityContextHolder.clearContext();
+        });
+    }
+
+    private static double nanosPerOp(Runnable operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        return (System.nanoTime() - start) / (double) ITERATIONS;
+    }
+
+    private static JwtTokenProvider provider(boolean verifiedCacheEnabled) {
+        JwtTokenProvider provider = new JwtTokenProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(provider, "jwtSecret", "benchmark-secret-key-for-jwt-token-generation-and-verification");
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", 900_000L);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpiration", 604_800_000L);
+        ReflectionTestUtils.setField(provider, "verifiedCacheEnabled", verifiedCacheEnabled);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaximumSize", 10_000L);
+        provider.init();
+        return provider;
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.projectmanager.security;
+
+import com.projectmanager.service.ProjectService;
+import com.projectmanager.support.IntegrationTest;
+import com.projectmanager.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class ProjectMembershipCacheTest {
+
+    @Autowired
+    private ProjectMembershipCache projectMembershipCache;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void lookupDuringRemovalDoesNotCacheTheRemovedMember() {
+        UUID owner = fixtures.user("Owner");
+        UUID member = fixtures.user("Member");
+        UUID project = fixtures.project("Membership", owner, member);
+        assertThat(projectMembershipCache.isMember(project, member)).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            projectService.removeUserFromProject(project, member, owner);
+            // Another request still sees the committed membership while the removal is in flight
+            assertThat(CompletableFuture.supplyAsync(() -> projectMembershipCache.isMember(project, member)).join())
+                    .isTrue();
+        });
+
+        assertThat(projectMembershipCache.isMember(project, member)).isFalse();
+    }
+
+}
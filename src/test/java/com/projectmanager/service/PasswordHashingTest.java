@@ -0,0 +1,102 @@
+package com.projectmanager.service;
+
+import com.projectmanager.dto.auth.LoginDto;
+import com.projectmanager.dto.auth.PasswordResetDto;
+import com.projectmanager.dto.user.UserCreateDto;
+import com.projectmanager.entity.TokenPurpose;
+import com.projectmanager.security.TokenStore;
+import com.projectmanager.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * BCrypt is slow on purpose, so every hash and verification must run with no transaction open and no connection
+ * bound to the thread.
+ */
+@IntegrationTest
+class PasswordHashingTest {
+
+    @MockitoSpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TokenStore tokenStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> hashedInsideTransaction = new ArrayList<>();
+    private int hashes;
+
+    @BeforeEach
+    void recordTransactionState() {
+        doAnswer(invocation -> {
+            checkNoTransaction("encode");
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).encode(any());
+        doAnswer(invocation -> {
+            checkNoTransaction("matches");
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).matches(any(), any());
+    }
+
+    @Test
+    void registrationLoginAndResetHashOutsideTransactions() {
+        String email = "hasher-" + UUID.randomUUID() + "@example.com";
+        UserCreateDto create = new UserCreateDto();
+        create.setEmail(email);
+        create.setName("Hasher");
+        create.setPassword("first-password");
+        UUID userId = userService.createUser(create, "http://localhost").getId();
+        jdbcTemplate.update("UPDATE users SET email_verified = true WHERE id = ?", userId);
+
+        assertThat(authService.login(login(email, "first-password")).getAccessToken()).isNotBlank();
+
+        String resetToken = "reset-" + UUID.randomUUID();
+        tokenStore.save(TokenPurpose.PASSWORD_RESET, resetToken, email, Duration.ofMinutes(5));
+        PasswordResetDto reset = new PasswordResetDto();
+        reset.setToken(resetToken);
+        reset.setNewPassword("second-password");
+        authService.resetPassword(reset);
+
+        assertThat(authService.login(login(email, "second-password")).getAccessToken()).isNotBlank();
+        assertThat(hashes).isEqualTo(4);
+        assertThat(hashedInsideTransaction).isEmpty();
+    }
+
+    private void checkNoTransaction(String operation) {
+        hashes++;
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.getResourceMap().isEmpty()) {
+            hashedInsideTransaction.add(operation);
+        }
+    }
+
+    private static LoginDto login(String email, String password) {
+        LoginDto dto = new LoginDto();
+        dto.setEmail(email);
+        dto.setPassword(password);
+        return dto;
+    }
+
+}
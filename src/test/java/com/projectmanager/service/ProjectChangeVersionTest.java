@@ -0,0 +1,76 @@
+package com.projectmanager.service;
+
+import com.projectmanager.dto.user.UserUpdateDto;
+import com.projectmanager.entity.Role;
+import com.projectmanager.support.IntegrationTest;
+import com.projectmanager.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class ProjectChangeVersionTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void bumpsEachTouchedProjectOnceAtCommit() {
+        UUID first = fixtures.project("First");
+        UUID second = fixtures.project("Second");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            projectService.markChanged(List.of(second, first));
+            projectService.markChanged(List.of(second));
+            assertThat(projectService.getChangeVersion(first)).isZero();
+        });
+
+        assertThat(projectService.getChangeVersion(first)).isEqualTo(1);
+        assertThat(projectService.getChangeVersion(second)).isEqualTo(1);
+    }
+
+    @Test
+    void userChangesJoinTheSameDeferredBump() {
+        UUID user = fixtures.user("Member");
+        UUID project = fixtures.project("Shared", user);
+        UserUpdateDto rename = new UserUpdateDto();
+        rename.setName("Renamed member");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            projectService.markChanged(List.of(project));
+            userService.updateUser(user, rename, user, Role.USER);
+            assertThat(projectService.getChangeVersion(project)).isZero();
+        });
+        assertThat(projectService.getChangeVersion(project)).isEqualTo(1);
+
+        userService.deleteUser(user, user, Role.USER);
+        assertThat(projectService.getChangeVersion(project)).isEqualTo(2);
+    }
+
+    @Test
+    void rollbackLeavesTheVersionUnchanged() {
+        UUID project = fixtures.project("Rolled back");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            projectService.markChanged(List.of(project));
+            status.setRollbackOnly();
+        });
+
+        assertThat(projectService.getChangeVersion(project)).isZero();
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.projectmanager.service;
+
+import com.projectmanager.dto.page.PageMode;
+import com.projectmanager.dto.project.ProjectReadDto;
+import com.projectmanager.support.IntegrationTest;
+import com.projectmanager.support.LatencyRecorder;
+import com.projectmanager.support.TestFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lists the caller's projects with 100,000 projects in the table, of which the caller belongs to five.
+ * Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@IntegrationTest
+class ProjectListingBenchmarkTest {
+
+    private static final int PROJECTS = 100_000;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void listsOnlyTheCallersProjectsAt100kProjects() {
+        UUID other = fixtures.user("Other");
+        UUID caller = fixtures.user("Caller");
+        jdbcTemplate.update("INSERT INTO projects (id, name, description, deleted, change_version, version, created_at, updated_at) " +
+                "SELECT gen_random_uuid(), 'Project ' || n, 'Seeded project', false, 0, 0, now(), now() " +
+                "FROM generate_series(1, ?) n", PROJECTS);
+        jdbcTemplate.update("INSERT INTO project_users (project_id, user_id) SELECT id, ? FROM projects", other);
+        jdbcTemplate.update("INSERT INTO project_users (project_id, user_id) " +
+                "SELECT id, ? FROM (SELECT id FROM projects ORDER BY id LIMIT 5) p", caller);
+        jdbcTemplate.execute("ANALYZE projects");
+        jdbcTemplate.execute("ANALYZE project_users");
+
+        PageRequest firstPage = PageRequest.of(0, 20);
+        Slice<ProjectReadDto> projects = projectService.getAllProjects(firstPage, PageMode.EXACT, null, null, null, caller);
+        assertThat(projects.getContent()).hasSize(5);
+        assertThat(((Page<ProjectReadDto>) projects).getTotalElements()).isEqualTo(5);
+
+        LatencyRecorder exact = LatencyRecorder.measure(50, 500, () ->
+                projectService.getAllProjects(firstPage, PageMode.EXACT, null, null, null, caller));
+        LatencyRecorder slice = LatencyRecorder.measure(50, 500, () ->
+                projectService.getAllProjects(firstPage, PageMode.SLICE, null, null, null, caller));
+        System.out.println(exact.summary("getAllProjects EXACT, 5 of " + PROJECTS + " projects"));
+        System.out.println(slice.summary("getAllProjects SLICE, 5 of " + PROJECTS + " projects"));
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.projectmanager.service;
+
+import com.projectmanager.dto.page.PageMode;
+import com.projectmanager.dto.project.ProjectReadDto;
+import com.projectmanager.support.IntegrationTest;
+import com.projectmanager.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class ProjectMembersTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void embedsACappedMemberIdListWithTheTotalCount() {
+        UUID owner = fixtures.user("Owner");
+        UUID large = fixtures.project("Large", owner);
+        for (int i = 0; i < 5; i++) {
+            fixtures.addMember(large, fixtures.user("Member " + i));
+        }
+        UUID deleted = fixtures.user("Deleted member");
+        fixtures.addMember(large, deleted);
+        jdbcTemplate.update("UPDATE users SET deleted = true, deleted_at = now() WHERE id = ?", deleted);
+        UUID small = fixtures.project("Small", owner);
+
+        int limit = (int) ReflectionTestUtils.getField(projectService, "memberIdsLimit");
+        ReflectionTestUtils.setField(projectService, "memberIdsLimit", 3);
+        try {
+            ProjectReadDto project = projectService.getProjectById(large, owner);
+            assertThat(project.getUserIds()).hasSize(3).doesNotContain(deleted);
+            assertThat(project.getMemberCount()).isEqualTo(6);
+
+            assertThat(projectService.getAllProjects(PageRequest.of(0, 10), PageMode.SLICE, null, null, null, owner))
+                    .filteredOn(dto -> dto.getId().equals(small))
+                    .singleElement()
+                    .satisfies(dto -> {
+                        assertThat(dto.getUserIds()).containsExactly(owner);
+                        assertThat(dto.getMemberCount()).isEqualTo(1);
+                    });
+        } finally {
+            ReflectionTestUtils.setField(projectService, "memberIdsLimit", limit);
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.projectmanager.service;
+
+import com.projectmanager.dto.task.TaskBatchCreateDto;
+import com.projectmanager.dto.task.TaskCreateDto;
+import com.projectmanager.entity.TaskStatus;
+import com.projectmanager.support.IntegrationTest;
+import com.projectmanager.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class SoftDeleteCascadeTest {
+
+    @Autowired
+    private SoftDeleteService softDeleteService;
+
+    @Autowired
+    private StepService stepService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void backgroundChunksDropCountersAndBumpTheProject() {
+        UUID user = fixtures.user("Cascader");
+        UUID project = fixtures.project("Cascade", user);
+        UUID kept = fixtures.step(project, "Kept");
+        UUID deleted = fixtures.step(project, "Deleted");
+        createTasks(kept, user, 1);
+        createTasks(deleted, user, 5);
+
+        int batchSize = (int) ReflectionTestUtils.getField(softDeleteService, "batchSize");
+        ReflectionTestUtils.setField(softDeleteService, "batchSize", 2);
+        try {
+            stepService.deleteStep(deleted, user);
+            assertThat(counterRows(deleted)).isZero();
+
+            // A writer that reached a remaining task before the next chunk recreates the step's counters
+            jdbcTemplate.update("INSERT INTO task_status_counts (step_id, status, project_id, task_count) VALUES (?, 'TODO', ?, 1)",
+                    deleted, project);
+            long versionBeforeChunks = projectService.getChangeVersion(project);
+
+            assertThat(softDeleteService.processNextChunk()).isEqualTo(2);
+            assertThat(counterRows(deleted)).isZero();
+            assertThat(softDeleteService.processNextChunk()).isEqualTo(1);
+            assertThat(projectService.getChangeVersion(project)).isEqualTo(versionBeforeChunks + 2);
+        } finally {
+            ReflectionTestUtils.setField(softDeleteService, "batchSize", batchSize);
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM tasks WHERE step_id = ? AND deleted = false",
+                Long.class, deleted)).isZero();
+        assertThat(counterRows(deleted)).isZero();
+        assertThat(taskStatsService.getProjectStats(project, user).getTotals())
+                .isEqualTo(Map.of(TaskStatus.TODO, 1L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.DONE, 0L));
+    }
+
+    private long counterRows(UUID stepId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM task_status_counts WHERE step_id = ?", Long.class, stepId);
+    }
+
+    private void createTasks(UUID stepId, UUID currentUserId, int count) {
+        TaskBatchCreateDto dto = new TaskBatchCreateDto();
+        dto.setTasks(IntStream.range(0, count).mapToObj(i -> {
+            TaskCreateDto task = new TaskCreateDto();
+            task.setTitle("Task " + i);
+            task.setStepId(stepId);
+            return task;
+        }).toList());
+        taskService.createTasks(dto, currentUserId);
+    }
+
+}
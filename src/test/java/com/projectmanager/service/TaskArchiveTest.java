@@ -0,0 +1,125 @@
+package com.projectmanager.service;
+
+import com.projectmanager.dto.page.CursorPageDto;
+import com.projectmanager.dto.page.PageMode;
+import com.projectmanager.dto.task.TaskReadDto;
+import com.projectmanager.entity.TaskStatus;
+import com.projectmanager.exception.NotFoundException;
+import com.projectmanager.support.IntegrationTest;
+import com.projectmanager.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@IntegrationTest
+class TaskArchiveTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void archiveListingsHonorThePageMode() {
+        UUID user = fixtures.user("Archivist");
+        UUID project = fixtures.project("Archive", user);
+        UUID step = fixtures.step(project, "Done");
+        fixtures.task(step, "Live", TaskStatus.DONE, null);
+        archivedTask(project, step, "Archived 1");
+        archivedTask(project, step, "Archived 2");
+
+        Slice<TaskReadDto> exact = list(project, user, PageMode.EXACT);
+        assertThat(exact).isInstanceOf(Page.class);
+        assertThat(((Page<TaskReadDto>) exact).getTotalElements()).isEqualTo(3);
+        assertThat(exact.getContent()).extracting(TaskReadDto::isArchived).containsExactly(false, true);
+
+        Slice<TaskReadDto> estimated = list(project, user, PageMode.ESTIMATED);
+        assertThat(((Page<TaskReadDto>) estimated).getTotalElements()).isEqualTo(3);
+
+        Slice<TaskReadDto> slice = list(project, user, PageMode.SLICE);
+        assertThat(slice).isNotInstanceOf(Page.class);
+        assertThat(slice.hasNext()).isTrue();
+    }
+
+    @Test
+    void cursorPagesMergeLiveAndArchivedTasksInKeysetOrder() {
+        UUID user = fixtures.user("Walker");
+        UUID project = fixtures.project("Cursor archive", user);
+        UUID step = fixtures.step(project, "Done");
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        liveTask(step, "Live 1", TaskStatus.DONE, base.plusSeconds(1));
+        liveTask(step, "Live open", TaskStatus.TODO, base.plusSeconds(2));
+        archivedTask(project, step, "Archived 1", UUID.randomUUID(), base.plusSeconds(2));
+        liveTask(step, "Live 2", TaskStatus.DONE, base.plusSeconds(3));
+        // Same createdAt: Postgres puts the uuid with the high bit set last, while UUID.compareTo would put it first
+        archivedTask(project, step, "Archived high", UUID.fromString("ffffffff-0000-0000-0000-000000000000"), base.plusSeconds(4));
+        archivedTask(project, step, "Archived low", UUID.fromString("00000000-0000-0000-0000-000000000001"), base.plusSeconds(4));
+
+        List<String> titles = new ArrayList<>();
+        String after = null;
+        do {
+            CursorPageDto<TaskReadDto> page = taskService.getTasksByProjectIdAfter(project, after, 2, null, null, null, null,
+                    TaskStatus.DONE, false, user);
+            page.getContent().forEach(task -> titles.add(task.getTitle()));
+            after = page.getNextCursor();
+        } while (after != null);
+
+        assertThat(titles).containsExactly("Live 1", "Archived 1", "Live 2", "Archived low", "Archived high");
+        assertThat(taskService.getTasksByProjectIdAfter(project, null, 10, null, null, null, null, null, false, user).getContent())
+                .extracting(TaskReadDto::getTitle).containsExactly("Live 1", "Live open", "Live 2");
+    }
+
+    @Test
+    void archivedTasksAreReadableButNotWritable() {
+        UUID user = fixtures.user("Reader");
+        UUID project = fixtures.project("Read only", user);
+        UUID step = fixtures.step(project, "Done");
+        UUID archived = archivedTask(project, step, "Archived");
+
+        TaskReadDto task = taskService.getTaskById(archived, user);
+        assertThat(task.isArchived()).isTrue();
+        assertThat(taskService.getTaskEtag(archived, user)).isNotBlank();
+        assertThatThrownBy(() -> taskService.updateTaskStatus(archived, user)).isInstanceOf(NotFoundException.class);
+
+        jdbcTemplate.update("UPDATE steps SET deleted = true, deleted_at = now() WHERE id = ?", step);
+        assertThatThrownBy(() -> taskService.getTaskById(archived, user)).isInstanceOf(NotFoundException.class);
+    }
+
+    private Slice<TaskReadDto> list(UUID projectId, UUID userId, PageMode mode) {
+        return taskService.getTasksByProjectId(projectId, PageRequest.of(0, 2), mode, null, null, null, null, null, true, userId);
+    }
+
+    private UUID archivedTask(UUID projectId, UUID stepId, String title) {
+        return archivedTask(projectId, stepId, title, UUID.randomUUID(), LocalDateTime.now());
+    }
+
+    private UUID archivedTask(UUID projectId, UUID stepId, String title, UUID id, LocalDateTime createdAt) {
+        Timestamp created = Timestamp.valueOf(createdAt);
+        jdbcTemplate.update("INSERT INTO archived_tasks (id, title, description, step_id, project_id, status, created_at, " +
+                "updated_at, archived_at) VALUES (?, ?, ?, ?, ?, 'DONE', ?, ?, now())", id, title, title, stepId, projectId,
+                created, created);
+        return id;
+    }
+
+    private void liveTask(UUID stepId, String title, TaskStatus status, LocalDateTime createdAt) {
+        UUID id = fixtures.task(stepId, title, status, null);
+        jdbcTemplate.update("UPDATE tasks SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAt), id);
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.projectmanager.service;
+
+import com.projectmanager.dto.task.TaskBatchCreateDto;
+import com.projectmanager.dto.task.TaskBatchResultDto;
+import com.projectmanager.dto.task.TaskBatchUpdateDto;
+import com.projectmanager.dto.task.TaskBatchUpdateItemDto;
+import com.projectmanager.dto.task.TaskCreateDto;
+import com.projectmanager.dto.task.TaskReadDto;
+import com.projectmanager.dto.task.TaskUpdateDto;
+import com.projectmanager.entity.TaskStatus;
+import com.projectmanager.exception.BadRequestException;
+import com.projectmanager.support.IntegrationTest;
+import com.projectmanager.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@IntegrationTest
+class TaskBatchUpdateTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void batchStatusChangesFollowTheWorkflow() {
+        UUID user = fixtures.user("Batch");
+        UUID project = fixtures.project("Batch", user);
+        UUID step = fixtures.step(project, "Backlog");
+        List<UUID> taskIds = createTasks(step, user, 2);
+
+        List<TaskBatchResultDto> results = taskService.updateTasks(update(
+                item(taskIds.get(0), TaskStatus.DONE),
+                item(taskIds.get(1), TaskStatus.IN_PROGRESS)), user);
+
+        assertThat(results.get(0).isSuccess()).isFalse();
+        assertThat(results.get(0).getError()).isEqualTo("Task status cannot change from TODO to DONE");
+        assertThat(results.get(1).isSuccess()).isTrue();
+        assertThat(results.get(1).getTask().getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(taskStatsService.getProjectStats(project, user).getTotals())
+                .isEqualTo(Map.of(TaskStatus.TODO, 1L, TaskStatus.IN_PROGRESS, 1L, TaskStatus.DONE, 0L));
+    }
+
+    @Test
+    void reassigningKeepsTheFieldsTheItemLeavesOut() {
+        UUID user = fixtures.user("Reassigner");
+        UUID assignee = fixtures.user("Assignee");
+        UUID project = fixtures.project("Reassign", user, assignee);
+        UUID step = fixtures.step(project, "Backlog");
+        UUID task = createTasks(step, user, 1).getFirst();
+        taskService.updateTasks(update(item(task, TaskStatus.IN_PROGRESS)), user);
+
+        TaskBatchUpdateItemDto reassign = item(task, null);
+        reassign.setAssignedTo(assignee);
+        TaskReadDto updated = taskService.updateTasks(update(reassign), user).getFirst().getTask();
+
+        assertThat(updated.getTitle()).isEqualTo("Task 0");
+        assertThat(updated.getDescription()).isEqualTo("Description 0");
+        assertThat(updated.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(updated.getAssignedToId()).isEqualTo(assignee);
+        assertThat(taskService.getTaskById(task, user)).usingRecursiveComparison()
+                .ignoringFields("createdAt", "updatedAt").isEqualTo(updated);
+        assertThat(taskStatsService.getProjectStats(project, user).getTotals())
+                .isEqualTo(Map.of(TaskStatus.TODO, 0L, TaskStatus.IN_PROGRESS, 1L, TaskStatus.DONE, 0L));
+    }
+
+    @Test
+    void singleUpdateFollowsTheSameWorkflow() {
+        UUID user = fixtures.user("Single");
+        UUID project = fixtures.project("Single", user);
+        UUID task = createTasks(fixtures.step(project, "Backlog"), user, 1).getFirst();
+
+        TaskUpdateDto skip = new TaskUpdateDto();
+        skip.setStatus(TaskStatus.DONE);
+        assertThatThrownBy(() -> taskService.updateTask(task, skip, user))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Task status cannot change from TODO to DONE");
+
+        TaskUpdateDto rename = new TaskUpdateDto();
+        rename.setTitle("Renamed");
+        TaskReadDto renamed = taskService.updateTask(task, rename, user);
+        assertThat(renamed.getTitle()).isEqualTo("Renamed");
+        assertThat(renamed.getDescription()).isEqualTo("Description 0");
+        assertThat(renamed.getStatus()).isEqualTo(TaskStatus.TODO);
+    }
+
+    private List<UUID> createTasks(UUID stepId, UUID currentUserId, int count) {
+        TaskBatchCreateDto dto = new TaskBatchCreateDto();
+        dto.setTasks(IntStream.range(0, count).mapToObj(i -> {
+            TaskCreateDto task = new TaskCreateDto();
+            task.setTitle("Task " + i);
+            task.setDescription("Description " + i);
+            task.setStepId(stepId);
+            return task;
+        }).toList());
+        return taskService.createTasks(dto, currentUserId).stream()
+                .map(result -> result.getTask().getId())
+                .toList();
+    }
+
+    private static TaskBatchUpdateDto update(TaskBatchUpdateItemDto... items) {
+        TaskBatchUpdateDto dto = new TaskBatchUpdateDto();
+        dto.setTasks(List.of(items));
+        return dto;
+    }
+
+    private static TaskBatchUpdateItemDto item(UUID id, TaskStatus status) {
+        TaskBatchUpdateItemDto item = new TaskBatchUpdateItemDto();
+        item.setId(id);
+        item.setStatus(status);
+        return item;
+    }
+
+}
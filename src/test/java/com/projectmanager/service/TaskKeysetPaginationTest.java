@@ -0,0 +1,84 @@
+package com.projectmanager.service;
+
+import com.projectmanager.dto.page.CursorPageDto;
+import com.projectmanager.dto.task.TaskReadDto;
+import com.projectmanager.support.IntegrationTest;
+import com.projectmanager.support.TestFixtures;
+import com.projectmanager.util.CursorUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the task rows Postgres fetches for a cursor page, read from the transaction's own table statistics. The
+ * project's tasks are interleaved with a much larger neighbour's, so a scan that started at the beginning of the
+ * index instead of at the cursor would fetch tens of thousands of rows for the deep page.
+ */
+@IntegrationTest
+class TaskKeysetPaginationTest {
+
+    private static final int PROJECT_TASKS = 2_000;
+    private static final int NEIGHBOUR_TASKS = 100_000;
+    private static final int PAGE = 20;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void deepCursorFetchesNoMoreRowsThanTheFirstPage() {
+        UUID user = fixtures.user("Pager");
+        UUID project = fixtures.project("Deep", user);
+        UUID step = fixtures.step(project, "Backlog");
+        // One project task every 100 seconds, one neighbour task every 2
+        seed(step, PROJECT_TASKS, 100, 1);
+        seed(fixtures.step(fixtures.project("Busy neighbour"), "Backlog"), NEIGHBOUR_TASKS, 2, 0);
+        jdbcTemplate.execute("ANALYZE tasks");
+
+        Map<String, Object> last = jdbcTemplate.queryForMap("SELECT created_at, id FROM tasks WHERE step_id = ? " +
+                "ORDER BY created_at, id OFFSET ? LIMIT 1", step, PROJECT_TASKS - PAGE * 5);
+        String deepCursor = CursorUtil.encode(((Timestamp) last.get("created_at")).toLocalDateTime(), (UUID) last.get("id"));
+
+        long firstPage = rowsFetched(user, project, null, null);
+        long deepPage = rowsFetched(user, project, null, deepCursor);
+        long deepStepPage = rowsFetched(user, project, step, deepCursor);
+
+        // The project-wide page walks the (created_at, id) index from the cursor and skips the neighbour's rows
+        assertThat(deepPage).isLessThanOrEqualTo(firstPage + PAGE);
+        // Filtered by step, the (step_id, created_at, id) index range starts at the cursor
+        assertThat(deepStepPage).isLessThanOrEqualTo(2L * (PAGE + 1));
+    }
+
+    private long rowsFetched(UUID user, UUID project, UUID stepId, String cursor) {
+        return transactionTemplate.execute(status -> {
+            CursorPageDto<TaskReadDto> page = taskService.getTasksByProjectIdAfter(project, cursor, PAGE, null, null,
+                    null, stepId, null, false, user);
+            assertThat(page.getContent()).hasSize(PAGE);
+            return jdbcTemplate.queryForObject("SELECT seq_tup_read + coalesce(idx_tup_fetch, 0) " +
+                    "FROM pg_stat_xact_user_tables WHERE relname = 'tasks'", Long.class);
+        });
+    }
+
+    private void seed(UUID stepId, int count, int spacingSeconds, int offsetSeconds) {
+        jdbcTemplate.update("INSERT INTO tasks (id, title, description, step_id, status, deleted, version, created_at, updated_at) " +
+                "SELECT gen_random_uuid(), 'Task ' || n, 'Seeded task', ?, 'TODO', false, 0, " +
+                "timestamp '2020-01-01' + make_interval(secs => n * ? + ?), now() FROM generate_series(1, ?) n",
+                stepId, spacingSeconds, offsetSeconds, count);
+    }
+
+}
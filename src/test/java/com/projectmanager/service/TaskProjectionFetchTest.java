@@ -0,0 +1,119 @@
+package com.projectmanager.service;
+
+import com.projectmanager.entity.Step;
+import com.projectmanager.entity.Task;
+import com.projectmanager.entity.TaskStatus;
+import com.projectmanager.mapper.TaskMapper;
+import com.projectmanager.repository.TaskRepository;
+import com.projectmanager.repository.projection.TaskView;
+import com.projectmanager.specification.KeysetSpecification;
+import com.projectmanager.specification.TaskSpecification;
+import com.projectmanager.support.IntegrationTest;
+import com.projectmanager.support.SqlStatementCounter;
+import com.projectmanager.support.TestFixtures;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares what the projection reads fetch with the former entity fetch plan, in which a task eagerly loaded its
+ * assignee (password hash included), its step and the step's project.
+ */
+@IntegrationTest
+class TaskProjectionFetchTest {
+
+    private static final int TASKS = 50;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private UUID user;
+    private UUID project;
+    private final List<UUID> tasks = new ArrayList<>();
+
+    @BeforeEach
+    void createTasks() {
+        user = fixtures.user("Fetcher");
+        project = fixtures.project("Fetch", user);
+        UUID step = fixtures.step(project, "Backlog");
+        for (int i = 0; i < TASKS; i++) {
+            UUID assignee = fixtures.user("Assignee " + i);
+            fixtures.addMember(project, assignee);
+            tasks.add(fixtures.task(step, "Task " + i, TaskStatus.TODO, assignee));
+        }
+    }
+
+    @Test
+    void singleTaskReadFetchesLessThanTheEntityPlan() throws Exception {
+        UUID id = tasks.getFirst();
+        // Loads the project's members into the membership cache, which is not part of the read being compared
+        taskService.getTaskById(id, user);
+        SqlStatementCounter.Recording entity = measure(() -> transactionTemplate.executeWithoutResult(status ->
+                taskMapper.toReadDto(entityManager.find(Task.class, id, Map.of("jakarta.persistence.fetchgraph", eagerPlan())))));
+        SqlStatementCounter.Recording projection = measure(() -> taskService.getTaskById(id, user));
+
+        assertThat(projection.rows()).isLessThanOrEqualTo(entity.rows());
+        assertThat(projection.bytes()).as("projection %s, entity plan %s", projection, entity).isLessThan(entity.bytes() / 2);
+    }
+
+    @Test
+    void taskPageFetchesLessThanTheEntityPlan() throws Exception {
+        SqlStatementCounter.Recording entity = measure(() -> transactionTemplate.executeWithoutResult(status ->
+                entityManager.createQuery("select t from Task t where t.step.project.id = :projectId " +
+                                "order by t.createdAt, t.id", Task.class)
+                        .setParameter("projectId", project)
+                        .setHint("jakarta.persistence.fetchgraph", eagerPlan())
+                        .setMaxResults(TASKS)
+                        .getResultList()
+                        .forEach(taskMapper::toReadDto)));
+        SqlStatementCounter.Recording projection = measure(() -> transactionTemplate.executeWithoutResult(status ->
+                taskRepository.findAll(TaskSpecification.hasProjectId(project), KeysetSpecification.SORT, 0, TASKS, TaskView.class)
+                        .forEach(taskMapper::toReadDto)));
+
+        assertThat(projection.rows()).isEqualTo(TASKS);
+        assertThat(projection.rows()).isLessThanOrEqualTo(entity.rows());
+        assertThat(projection.bytes()).as("projection %s, entity plan %s", projection, entity).isLessThan(entity.bytes() / 2);
+    }
+
+    private EntityGraph<Task> eagerPlan() {
+        EntityGraph<Task> graph = entityManager.createEntityGraph(Task.class);
+        graph.addAttributeNodes("assignedTo");
+        graph.addSubgraph("step", Step.class).addAttributeNodes("project");
+        return graph;
+    }
+
+    private SqlStatementCounter.Recording measure(SqlStatementCounter.Action action) throws Exception {
+        entityManagerFactory.getCache().evictAll();
+        return SqlStatementCounter.measure(action);
+    }
+
+}
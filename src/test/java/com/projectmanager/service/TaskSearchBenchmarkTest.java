@@ -0,0 +1,76 @@
+package com.projectmanager.service;
+
+import com.projectmanager.dto.page.PageMode;
+import com.projectmanager.support.IntegrationTest;
+import com.projectmanager.support.LatencyRecorder;
+import com.projectmanager.support.TestFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the ranked full-text search ({@code ?q=}) with the {@code title} and {@code description} substring
+ * filters on a project holding 200,000 tasks, for a rare term (one task in a thousand) and a common one (one in
+ * ten). Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@IntegrationTest
+class TaskSearchBenchmarkTest {
+
+    private static final int TASKS = 200_000;
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void fullTextSearchAgainstSubstringFilters() {
+        UUID caller = fixtures.user("Searcher");
+        UUID project = fixtures.project("Search", caller);
+        UUID step = fixtures.step(project, "Backlog");
+        // Every task gets two filler words; every tenth mentions "deploy" and every thousandth "zeppelin"
+        jdbcTemplate.update("INSERT INTO tasks (id, title, description, step_id, status, deleted, version, created_at, updated_at) " +
+                "SELECT gen_random_uuid(), " +
+                "'Task ' || n || ' ' || (ARRAY['review','fix','update','design','plan'])[1 + n % 5] " +
+                "    || CASE WHEN n % 10 = 0 THEN ' deploy' ELSE '' END, " +
+                "'Seeded ' || (ARRAY['backend','frontend','billing','search','mobile','reports'])[1 + n % 6] || ' work' " +
+                "    || CASE WHEN n % 1000 = 0 THEN ' for the zeppelin rollout' ELSE '' END, " +
+                "?, 'TODO', false, 0, now() - make_interval(secs => n), now() FROM generate_series(1, ?) n", step, TASKS);
+        // Vacuumed so the GIN indexes have merged their pending insert lists, as they would have in steady state
+        jdbcTemplate.execute("VACUUM ANALYZE tasks");
+
+        assertThat(taskService.searchTasksByProjectId(project, "zeppelin", FIRST_PAGE, null, null, null, caller)).hasSize(20);
+        assertThat(taskService.getTasksByProjectId(project, FIRST_PAGE, PageMode.EXACT, null, "zeppelin", null, null, null,
+                false, caller)).hasSize(20);
+
+        report("?q=zeppelin (rare)", () ->
+                taskService.searchTasksByProjectId(project, "zeppelin", FIRST_PAGE, null, null, null, caller));
+        report("description LIKE zeppelin (rare), EXACT", () ->
+                taskService.getTasksByProjectId(project, FIRST_PAGE, PageMode.EXACT, null, "zeppelin", null, null, null, false, caller));
+        report("description LIKE zeppelin (rare), SLICE", () ->
+                taskService.getTasksByProjectId(project, FIRST_PAGE, PageMode.SLICE, null, "zeppelin", null, null, null, false, caller));
+        report("?q=deploy (common)", () ->
+                taskService.searchTasksByProjectId(project, "deploy", FIRST_PAGE, null, null, null, caller));
+        report("title LIKE deploy (common), EXACT", () ->
+                taskService.getTasksByProjectId(project, FIRST_PAGE, PageMode.EXACT, "deploy", null, null, null, null, false, caller));
+        report("title LIKE deploy (common), SLICE", () ->
+                taskService.getTasksByProjectId(project, FIRST_PAGE, PageMode.SLICE, "deploy", null, null, null, null, false, caller));
+    }
+
+    private static void report(String name, Runnable search) {
+        System.out.println(LatencyRecorder.measure(20, 200, search).summary(name + ", " + TASKS + " tasks"));
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.projectmanager.service;
+
+import com.projectmanager.dto.task.TaskReadDto;
+import com.projectmanager.entity.TaskStatus;
+import com.projectmanager.support.IntegrationTest;
+import com.projectmanager.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class TaskSearchTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void ranksTitleMatchesFirstAndSkipsDeletedProjects() {
+        UUID user = fixtures.user("Searcher");
+        UUID project = fixtures.project("Search", user);
+        UUID step = fixtures.step(project, "Backlog");
+        UUID inDescription = fixtures.task(step, "Update docs", TaskStatus.TODO, null);
+        jdbcTemplate.update("UPDATE tasks SET description = 'mention the zeppelin rollout' WHERE id = ?", inDescription);
+        UUID inTitle = fixtures.task(step, "Zeppelin rollout", TaskStatus.TODO, null);
+
+        assertThat(taskService.searchTasksByProjectId(project, "zeppelin", PageRequest.of(0, 10), null, null, null, user)
+                .map(TaskReadDto::getId).getContent()).containsExactly(inTitle, inDescription);
+
+        // Deleted before the cascade reached the steps and tasks
+        jdbcTemplate.update("UPDATE projects SET deleted = true, deleted_at = now() WHERE id = ?", project);
+        assertThat(taskService.searchTasksByProjectId(project, "zeppelin", PageRequest.of(0, 10), null, null, null, user))
+                .isEmpty();
+        assertThat(taskService.searchTasks("zeppelin", PageRequest.of(0, 10), null, null, user)).isEmpty();
+    }
+
+}
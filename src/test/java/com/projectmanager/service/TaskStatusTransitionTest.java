@@ -0,0 +1,132 @@
+package com.projectmanager.service;
+
+import com.projectmanager.dto.task.TaskCreateDto;
+import com.projectmanager.dto.task.TaskReadDto;
+import com.projectmanager.entity.TaskStatus;
+import com.projectmanager.exception.BadRequestException;
+import com.projectmanager.exception.ConflictException;
+import com.projectmanager.exception.NotFoundException;
+import com.projectmanager.support.IntegrationTest;
+import com.projectmanager.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@IntegrationTest
+class TaskStatusTransitionTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentTransitionsApplyEachStatusChangeOnce() throws Exception {
+        UUID user = fixtures.user("Racer");
+        UUID project = fixtures.project("Race", user);
+        UUID task = createTask(fixtures.step(project, "Backlog"), user);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<TaskReadDto>> attempts = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < THREADS; i++) {
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    return taskService.updateTaskStatus(task, user);
+                }));
+            }
+            start.countDown();
+        }
+
+        List<TaskStatus> applied = new ArrayList<>();
+        for (Future<TaskReadDto> attempt : attempts) {
+            try {
+                applied.add(attempt.get().getStatus());
+            } catch (Exception e) {
+                // Losers either lost the race for the same status or saw the task already DONE
+                assertThat(e.getCause()).isInstanceOfAny(ConflictException.class, BadRequestException.class);
+            }
+        }
+
+        assertThat(applied).doesNotHaveDuplicates().isNotEmpty().isSubsetOf(TaskStatus.IN_PROGRESS, TaskStatus.DONE);
+        TaskStatus finalStatus = applied.contains(TaskStatus.DONE) ? TaskStatus.DONE : TaskStatus.IN_PROGRESS;
+        assertThat(taskService.getTaskById(task, user).getStatus()).isEqualTo(finalStatus);
+        assertThat(taskStatsService.getProjectStats(project, user).getTotals())
+                .isEqualTo(Map.of(TaskStatus.TODO, 0L, TaskStatus.IN_PROGRESS, finalStatus == TaskStatus.IN_PROGRESS ? 1L : 0L,
+                        TaskStatus.DONE, finalStatus == TaskStatus.DONE ? 1L : 0L));
+    }
+
+    @Test
+    void taskDeletedBeforeTheUpdateIsNotFound() throws Exception {
+        UUID user = fixtures.user("Deleter");
+        UUID project = fixtures.project("Delete race", user);
+        UUID task = createTask(fixtures.step(project, "Backlog"), user);
+
+        try (Connection deleter = dataSource.getConnection()) {
+            deleter.setAutoCommit(false);
+            try (PreparedStatement delete = deleter.prepareStatement(
+                    "UPDATE tasks SET deleted = true, deleted_at = now() WHERE id = ?")) {
+                delete.setObject(1, task);
+                delete.executeUpdate();
+            }
+
+            // The status read still sees the task; the update then waits on the delete's row lock
+            CompletableFuture<TaskReadDto> update = CompletableFuture.supplyAsync(() -> taskService.updateTaskStatus(task, user));
+            awaitLockWait();
+            deleter.commit();
+
+            assertThatThrownBy(update::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(NotFoundException.class);
+        }
+    }
+
+    private UUID createTask(UUID stepId, UUID currentUserId) {
+        TaskCreateDto dto = new TaskCreateDto();
+        dto.setTitle("Contended");
+        dto.setStepId(stepId);
+        return taskService.createTask(dto, currentUserId).getId();
+    }
+
+    private void awaitLockWait() throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            Integer waiting = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'", Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("The status update never waited on the row lock");
+    }
+
+}
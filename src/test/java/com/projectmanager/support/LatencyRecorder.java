@@ -0,0 +1,53 @@
+package com.projectmanager.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects per-operation latencies for the benchmark tests and reports percentiles. Not thread-safe; concurrent
+ * benchmarks record into one instance per thread and merge them.
+ */
+public class LatencyRecorder {
+
+    private final List<Long> nanos = new ArrayList<>();
+
+    public static LatencyRecorder measure(int warmup, int iterations, Runnable operation) {
+        for (int i = 0; i < warmup; i++) {
+            operation.run();
+        }
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            recorder.record(System.nanoTime() - start);
+        }
+        return recorder;
+    }
+
+    public void record(long elapsedNanos) {
+        nanos.add(elapsedNanos);
+    }
+
+    public void merge(LatencyRecorder other) {
+        nanos.addAll(other.nanos);
+    }
+
+    public int count() {
+        return nanos.size();
+    }
+
+    public double percentileMillis(double percentile) {
+        List<Long> sorted = new ArrayList<>(nanos);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public String summary(String name) {
+        return String.format("%s: n=%d p50=%.3fms p99=%.3fms max=%.3fms", name, count(),
+                percentileMillis(50), percentileMillis(99), percentileMillis(100));
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.projectmanager.support;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Records the SQL statements executed by the calling thread while an action runs, so tests can assert how many
+ * round trips an endpoint makes, along with the rows and column bytes read back from their results. Statements
+ * from other threads (scheduled jobs, async listeners) are ignored, and a JDBC batch counts as one statement because
+ * it is one round trip.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class SqlStatementCounter {
+
+    private static final ThreadLocal<Recording> RECORDING = new ThreadLocal<>();
+
+    // Static so the post-processor is registered before the DataSource is created
+    @Bean
+    static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("statement-counter")
+                            .afterQuery((execution, queries) -> {
+                                Recording recording = RECORDING.get();
+                                if (recording != null) {
+                                    recording.statements.add(queries.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")));
+                                }
+                            })
+                            .proxyResultSet()
+                            .afterMethod(SqlStatementCounter::recordResultSetRead)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    public static List<String> record(Action action) throws Exception {
+        return measure(action).statements();
+    }
+
+    public static Recording measure(Action action) throws Exception {
+        Recording recording = new Recording();
+        RECORDING.set(recording);
+        try {
+            action.run();
+        } finally {
+            RECORDING.remove();
+        }
+        return recording;
+    }
+
+    private static void recordResultSetRead(MethodExecutionContext context) {
+        Recording recording = RECORDING.get();
+        if (recording == null || !(context.getTarget() instanceof ResultSet)) {
+            return;
+        }
+        String method = context.getMethod().getName();
+        Object[] args = context.getMethodArgs();
+        if (method.equals("next") && Boolean.TRUE.equals(context.getResult())) {
+            recording.rows++;
+        } else if (method.startsWith("get") && args != null && args.length > 0
+                && (args[0] instanceof Integer || args[0] instanceof String)) {
+            recording.bytes += sizeOf(context.getResult());
+        }
+    }
+
+    // Approximates the wire size of a column value: text by its UTF-8 length, fixed-width types by their width
+    private static long sizeOf(Object value) {
+        return switch (value) {
+            case null -> 0;
+            case String text -> text.getBytes(StandardCharsets.UTF_8).length;
+            case byte[] bytes -> bytes.length;
+            case UUID uuid -> 16;
+            case Boolean flag -> 1;
+            case Short number -> 2;
+            case Integer number -> 4;
+            default -> 8;
+        };
+    }
+
+    public static class Recording {
+
+        private final List<String> statements = new ArrayList<>();
+        private long rows;
+        private long bytes;
+
+        public List<String> statements() {
+            return statements;
+        }
+
+        public long rows() {
+            return rows;
+        }
+
+        public long bytes() {
+            return bytes;
+        }
+
+        @Override
+        public String toString() {
+            return statements.size() + " statements, " + rows + " rows, " + bytes + " bytes";
+        }
+
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.projectmanager.support;
+
+import com.projectmanager.entity.Role;
+import com.projectmanager.entity.TaskStatus;
+import com.projectmanager.security.JwtTokenProvider;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Inserts rows directly, bypassing services, so that setup neither shows up in statement counts nor depends on
+ * the behavior under test. Task status counters are not maintained for rows created here.
+ */
+@TestComponent
+public class TestFixtures {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public TestFixtures(JdbcTemplate jdbcTemplate, JwtTokenProvider jwtTokenProvider) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    public UUID user(String name) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, email, name, password, role, email_verified, deleted, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 'not-a-hash', 'USER', true, false, ?, ?)", id, id + "@example.com", name, now(), now());
+        return id;
+    }
+
+    public UUID project(String name, UUID... memberIds) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO projects (id, name, description, deleted, change_version, version, created_at, updated_at) " +
+                "VALUES (?, ?, ?, false, 0, 0, ?, ?)", id, name, name + " description", now(), now());
+        for (UUID memberId : memberIds) {
+            addMember(id, memberId);
+        }
+        return id;
+    }
+
+    public void addMember(UUID projectId, UUID userId) {
+        jdbcTemplate.update("INSERT INTO project_users (project_id, user_id) VALUES (?, ?)", projectId, userId);
+    }
+
+    public UUID step(UUID projectId, String name) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO steps (id, name, project_id, deleted, version, created_at, updated_at) " +
+                "VALUES (?, ?, ?, false, 0, ?, ?)", id, name, projectId, now(), now());
+        return id;
+    }
+
+    public UUID task(UUID stepId, String title, TaskStatus status, UUID assignedTo) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tasks (id, title, description, assigned_to, step_id, status, deleted, version, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, false, 0, ?, ?)",
+                id, title, title + " description", assignedTo, stepId, status.name(), now(), now());
+        return id;
+    }
+
+    public String accessToken(UUID userId) {
+        return jwtTokenProvider.generateAccessToken(userId, Role.USER);
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.projectmanager.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Applies db/migrations to the schema Hibernate just created, the way a deploy does with psql: each script on one
+ * connection, statement by statement in autocommit mode, so CREATE INDEX CONCURRENTLY and COMMIT inside DO
+ * blocks work.
+ */
+@TestComponent
+public class TestMigrations implements InitializingBean {
+
+    private final DataSource dataSource;
+
+    // Depending on the entity manager factory makes the scripts run after schema generation
+    public TestMigrations(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        Resource[] scripts = new PathMatchingResourcePatternResolver().getResources("classpath:db/migrations/*.sql");
+        Arrays.sort(scripts, Comparator.comparing(Resource::getFilename));
+        for (Resource script : scripts) {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                connection.setAutoCommit(true);
+                for (String sql : statements(script.getContentAsString(StandardCharsets.UTF_8))) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+
+    /**
+     * Splits on semicolons at the end of a line, ignoring comment lines and anything between $$ quotes.
+     */
+    static List<String> statements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inDollarQuote = false;
+        for (String line : script.split("\n")) {
+            if (!inDollarQuote && line.strip().startsWith("--")) {
+                continue;
+            }
+            current.append(line).append('\n');
+            if (line.split("\\$\\$", -1).length % 2 == 0) {
+                inDollarQuote = !inDollarQuote;
+            }
+            if (!inDollarQuote && line.strip().endsWith(";")) {
+                statements.add(current.toString().strip());
+                current.setLength(0);
+            }
+        }
+        if (!current.toString().isBlank()) {
+            statements.add(current.toString().strip());
+        }
+        return statements;
+    }
+
+}